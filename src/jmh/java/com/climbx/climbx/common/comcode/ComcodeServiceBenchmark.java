@@ -0,0 +1,73 @@
+package com.climbx.climbx.common.comcode;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.climbx.climbx.common.comcode.dto.ComcodeDto;
+import com.climbx.climbx.common.comcode.exception.ComcodeNotFound;
+import com.climbx.climbx.common.comcode.repository.ComcodeRepository;
+import com.climbx.climbx.common.config.CacheConfig;
+import com.climbx.climbx.fixture.ComcodeFixture;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 요청마다 호출되는 comcode 조회 경로. 스냅샷(V5__seed_comcodes.sql 과 동일한 코드)에서 조회하며 DB는 호출되지 않습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class ComcodeServiceBenchmark {
+
+    private ComcodeService comcodeService;
+
+    @Setup
+    public void setUp() {
+        // stubOnly: 호출 기록을 남기지 않아 반복 호출 시 메모리가 늘지 않음
+        ComcodeRepository comcodeRepository = mock(ComcodeRepository.class,
+            withSettings().stubOnly());
+        given(comcodeRepository.findAll())
+            .willReturn(ComcodeFixture.createDefaultComcodeEntities());
+        given(comcodeRepository.findByCode("UNKNOWN")).willReturn(Optional.empty());
+
+        comcodeService = new ComcodeService(comcodeRepository,
+            new CacheConfig().missingComcodes());
+        comcodeService.init();
+    }
+
+    @Benchmark
+    public String getCodeValue() {
+        return comcodeService.getCodeValue("ACCEPTED");
+    }
+
+    @Benchmark
+    public String getCodeValueLowerCase() {
+        return comcodeService.getCodeValue("accepted");
+    }
+
+    @Benchmark
+    public List<ComcodeDto> getCodesByGroup() {
+        return comcodeService.getCodesByGroup("USER_HISTORY_CRITERIA");
+    }
+
+    @Benchmark
+    public void getCodeValueMissing(Blackhole blackhole) {
+        try {
+            blackhole.consume(comcodeService.getCodeValue("UNKNOWN"));
+        } catch (ComcodeNotFound e) {
+            blackhole.consume(e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.climbx.climbx.common.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * db-prod 프로필의 드라이버 설정(statement 캐시, rewriteBatchedStatements) 유무에 따른 JdbcTemplate batch 처리 시간 비교.
+ * <ul>
+ *     <li>batchInsert: bench_user_ranking_histories 에 batch INSERT (multi-row INSERT 재작성 효과)</li>
+ *     <li>batchUpdate: bench_user_stats 를 PK 기준 batch UPDATE (prepared statement 재사용 효과)</li>
+ * </ul>
+ * MySQL이 필요하며 -Dbenchmark.db.url, -Dbenchmark.db.user, -Dbenchmark.db.password 로 지정합니다. 스키마를 건드리지 않도록
+ * bench_ 접두사의 임시 테이블을 사용합니다.
+ * <p>
+ * Hibernate(saveAll, flush)를 거치지 않으므로 드라이버 설정만의 효과이며, 서비스 경로의 처리 시간을 대신하지 않습니다.
+ * UserRankingHistoryEntity 는 IDENTITY 키라 Hibernate가 INSERT를 batch하지 않으므로 batchInsert 의 차이는 saveAll
+ * 적재에는 나타나지 않고, 엔티티 변경의 UPDATE batch 에는 dirty checking 과 엔티티 로드 비용이 더해집니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JdbcBatchTuningBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"baseline", "tuned"})
+    public String driverSettings;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private List<Object[]> historyRows;
+    private List<Object[]> statRows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("benchmark.db.url",
+            "jdbc:mysql://localhost:3306/climbx?serverTimezone=Asia/Seoul&useSSL=false"
+                + "&allowPublicKeyRetrieval=true"));
+        config.setUsername(System.getProperty("benchmark.db.user", "dev_user"));
+        config.setPassword(System.getProperty("benchmark.db.password", "dev_password"));
+        config.setMaximumPoolSize(2);
+        config.setAutoCommit(false);
+        if ("tuned".equals(driverSettings)) {
+            // application-db-prod.yml 의 data-source-properties 와 동일
+            config.addDataSourceProperty("cachePrepStmts", "true");
+            config.addDataSourceProperty("prepStmtCacheSize", "250");
+            config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            config.addDataSourceProperty("useServerPrepStmts", "true");
+            config.addDataSourceProperty("rewriteBatchedStatements", "true");
+            config.addDataSourceProperty("useLocalSessionState", "true");
+            config.addDataSourceProperty("elideSetAutoCommits", "true");
+            config.addDataSourceProperty("cacheResultSetMetadata", "true");
+            config.addDataSourceProperty("cacheServerConfiguration", "true");
+            config.addDataSourceProperty("maintainTimeStats", "false");
+        }
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS bench_user_ranking_histories");
+            jdbcTemplate.execute("DROP TABLE IF EXISTS bench_user_stats");
+            jdbcTemplate.execute("""
+                CREATE TABLE bench_user_ranking_histories (
+                    history_id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    user_id BIGINT NOT NULL,
+                    part VARCHAR(20) NOT NULL,
+                    value BIGINT NOT NULL,
+                    created_at DATETIME(6)
+                )
+                """);
+            jdbcTemplate.execute("""
+                CREATE TABLE bench_user_stats (
+                    user_id BIGINT PRIMARY KEY,
+                    rating BIGINT NOT NULL,
+                    solved_problems_count BIGINT NOT NULL
+                )
+                """);
+        });
+
+        historyRows = new ArrayList<>(ROWS);
+        statRows = new ArrayList<>(ROWS);
+        List<Object[]> seedRows = new ArrayList<>(ROWS);
+        for (long userId = 1; userId <= ROWS; userId++) {
+            historyRows.add(new Object[]{userId, "RATING", userId * 10});
+            statRows.add(new Object[]{userId * 10, userId % 50, userId});
+            seedRows.add(new Object[]{userId, 0L, 0L});
+        }
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+            "INSERT INTO bench_user_stats (user_id, rating, solved_problems_count) VALUES (?, ?, ?)",
+            seedRows));
+    }
+
+    @Setup(Level.Iteration)
+    public void truncateHistories() {
+        transactionTemplate.executeWithoutResult(
+            status -> jdbcTemplate.execute("TRUNCATE TABLE bench_user_ranking_histories"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS bench_user_ranking_histories");
+            jdbcTemplate.execute("DROP TABLE IF EXISTS bench_user_stats");
+        });
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int[][] batchInsert() {
+        return transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(
+            "INSERT INTO bench_user_ranking_histories (user_id, part, value, created_at) "
+                + "VALUES (?, ?, ?, NOW(6))",
+            historyRows, BATCH_SIZE, (ps, row) -> {
+                ps.setLong(1, (Long) row[0]);
+                ps.setString(2, (String) row[1]);
+                ps.setLong(3, (Long) row[2]);
+            }));
+    }
+
+    @Benchmark
+    public int[][] batchUpdate() {
+        return transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(
+            "UPDATE bench_user_stats SET rating = ?, solved_problems_count = ? WHERE user_id = ?",
+            statRows, BATCH_SIZE, (ps, row) -> {
+                ps.setLong(1, (Long) row[0]);
+                ps.setLong(2, (Long) row[1]);
+                ps.setLong(3, (Long) row[2]);
+            }));
+    }
+}
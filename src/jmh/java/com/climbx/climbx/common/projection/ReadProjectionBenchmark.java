@@ -0,0 +1,193 @@
+package com.climbx.climbx.common.projection;
+
+import com.climbx.climbx.fixture.ProblemFixture;
+import com.climbx.climbx.gym.dto.GymInfoResponseDto;
+import com.climbx.climbx.gym.repository.GymRepository;
+import com.climbx.climbx.problem.dto.ProblemInfoInSpotResponseDto;
+import com.climbx.climbx.problem.entity.ProblemEntity;
+import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.climbx.climbx.user.dto.UserProfileResponseDto;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 목록 조회를 엔티티로 읽어 DTO로 옮기는 방식(entity)과 DTO projection 으로 바로 읽는 방식(projection)의 비교.
+ * <ul>
+ *     <li>gymList: GymService.getGymList (findAll + GymInfoResponseDto.from / findAllGymInfos)</li>
+ *     <li>problemSpots: ProblemService 의 문제 조회 (ProblemEntity / ProblemInfoInSpotResponseDto)</li>
+ *     <li>users: UserService.getUsers (계정 조회 후 사용자별 통계 조회 / 계정·통계 projection 한 번)</li>
+ * </ul>
+ * H2 인메모리 DB 위에 Hibernate 와 repository 를 직접 구성하고, 서비스와 같이 readOnly 트랜잭션 하나 단위로 측정합니다. 순위 계산은 두
+ * 방식이 같으므로 제외합니다. 할당량은 gc 프로파일러의 gc.alloc.rate.norm 으로 비교합니다.
+ * 예: ./gradlew jmh -PjmhIncludes=ReadProjectionBenchmark -PjmhProfilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReadProjectionBenchmark {
+
+    private static final Long GYM_ID = 1L;
+    private static final int SPOT_COUNT = 20;
+    private static final String USER_ROLE = "USER";
+
+    @Param({"entity", "projection"})
+    public String mode;
+
+    @Param({"100", "1000"})
+    public int rows;
+
+    private HikariDataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+    private GymRepository gymRepository;
+    private ProblemRepository problemRepository;
+    private UserAccountRepository userAccountRepository;
+    private UserStatRepository userStatRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:projection;MODE=MySQL;DATABASE_TO_LOWER=TRUE;"
+            + "DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+
+        // src/test/resources/application.yml 과 같은 식별자 설정
+        Properties jpaProperties = new Properties();
+        jpaProperties.put("hibernate.hbm2ddl.auto", "create-drop");
+        jpaProperties.put("hibernate.globally_quoted_identifiers", "true");
+        jpaProperties.put("hibernate.globally_quoted_identifiers_skip_column_definitions", "true");
+
+        LocalContainerEntityManagerFactoryBean factoryBean =
+            new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.climbx.climbx");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaProperties(jpaProperties);
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        readOnlyTransaction = new TransactionTemplate(
+            new JpaTransactionManager(entityManagerFactory));
+        readOnlyTransaction.setReadOnly(true);
+
+        JpaRepositoryFactory repositoryFactory = new JpaRepositoryFactory(entityManager);
+        gymRepository = repositoryFactory.getRepository(GymRepository.class);
+        problemRepository = repositoryFactory.getRepository(ProblemRepository.class);
+        userAccountRepository = repositoryFactory.getRepository(UserAccountRepository.class);
+        userStatRepository = repositoryFactory.getRepository(UserStatRepository.class);
+
+        seed(new JdbcTemplate(dataSource));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> gyms = new ArrayList<>(rows);
+        List<Object[]> problems = new ArrayList<>(rows);
+        List<Object[]> accounts = new ArrayList<>(rows);
+        List<Object[]> stats = new ArrayList<>(rows);
+        for (long id = 1; id <= rows; id++) {
+            gyms.add(new Object[]{id, "gym" + id, 37.0 + id / 1000.0, 127.0 + id / 1000.0});
+            problems.add(new Object[]{id, GYM_ID, ProblemFixture.DEFAULT_LOCAL_LEVEL,
+                ProblemFixture.DEFAULT_HOLD_COLOR, id % SPOT_COUNT + 1});
+            accounts.add(new Object[]{id, USER_ROLE, "user" + id});
+            stats.add(new Object[]{id, id * 10});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO gyms (gym_id, name, latitude, longitude, address, "
+            + "phone_number, map_2d_url) VALUES (?, ?, ?, ?, '서울', '02-1234-5678', "
+            + "'http://example.com/map2d')", gyms);
+        jdbcTemplate.batchUpdate("INSERT INTO problems (problem_id, gym_id, local_level, "
+            + "hold_color, problem_rating, spot_id, spot_x_ratio, spot_y_ratio, image_url) "
+            + "VALUES (?, ?, ?, ?, 1200, ?, 50.0, 30.0, 'http://example.com/image.jpg')", problems);
+        jdbcTemplate.batchUpdate("INSERT INTO user_accounts (user_id, role, nickname, "
+            + "status_message, profile_image_url, last_login_date) "
+            + "VALUES (?, ?, ?, 'hello', 'http://example.com/profile.jpg', CURRENT_DATE)",
+            accounts);
+        jdbcTemplate.batchUpdate("INSERT INTO user_stats (user_id, rating, current_streak, "
+            + "longest_streak, solved_problems_count, rival_count) VALUES (?, ?, 1, 2, 3, 0)",
+            stats);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+
+    private boolean entityMode() {
+        return "entity".equals(mode);
+    }
+
+    @Benchmark
+    public List<GymInfoResponseDto> gymList() {
+        return readOnlyTransaction.execute(status -> entityMode()
+            ? gymRepository.findAll().stream().map(GymInfoResponseDto::from).toList()
+            : gymRepository.findAllGymInfos());
+    }
+
+    @Benchmark
+    public List<ProblemInfoInSpotResponseDto> problemSpots() {
+        return readOnlyTransaction.execute(status -> entityMode()
+            ? entityManager.createQuery("""
+                    SELECT p FROM ProblemEntity p
+                    WHERE p.gym.gymId = :gymId
+                      AND p.localLevel = :localLevel
+                      AND p.holdColor = :holdColor
+                    """, ProblemEntity.class)
+                .setParameter("gymId", GYM_ID)
+                .setParameter("localLevel", ProblemFixture.DEFAULT_LOCAL_LEVEL)
+                .setParameter("holdColor", ProblemFixture.DEFAULT_HOLD_COLOR)
+                .getResultList().stream()
+                .map(ProblemInfoInSpotResponseDto::from)
+                .toList()
+            : problemRepository.findByGym_GymIdAndLocalLevelAndHoldColor(GYM_ID,
+                ProblemFixture.DEFAULT_LOCAL_LEVEL, ProblemFixture.DEFAULT_HOLD_COLOR));
+    }
+
+    @Benchmark
+    public List<UserProfileResponseDto> users() {
+        return readOnlyTransaction.execute(status -> entityMode()
+            ? entityManager.createQuery(
+                    "SELECT a FROM UserAccountEntity a WHERE a.role = :role",
+                    UserAccountEntity.class)
+                .setParameter("role", USER_ROLE)
+                .getResultList().stream()
+                .map(account -> UserProfileResponseDto.from(
+                    account,
+                    userStatRepository.findByUserId(account.userId()).orElseThrow(),
+                    0L,
+                    Collections.emptyMap()))
+                .toList()
+            : userAccountRepository.findProfilesByRole(USER_ROLE).stream()
+                .map(profile -> UserProfileResponseDto.from(profile, 0L, Collections.emptyMap()))
+                .toList());
+    }
+}
@@ -0,0 +1,89 @@
+package com.climbx.climbx.common.response;
+
+import com.climbx.climbx.common.annotation.SuccessStatus;
+import com.climbx.climbx.fixture.UserFixture;
+import com.climbx.climbx.user.dto.UserProfileResponseDto;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * 컨트롤러 반환값을 ApiResponse로 감싸는 ApiResponseAdvice 경로 (직렬화 제외).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResponseAdviceBenchmark {
+
+    private ApiResponseAdvice apiResponseAdvice;
+    private MethodParameter plainReturnType;
+    private MethodParameter successStatusReturnType;
+    private ServerHttpRequest request;
+    private ServerHttpResponse response;
+    private List<UserProfileResponseDto> users;
+    private ApiResponse<List<UserProfileResponseDto>> wrappedUsers;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        apiResponseAdvice = new ApiResponseAdvice();
+        plainReturnType = MethodParameter.forExecutable(
+            SampleController.class.getDeclaredMethod("getUsers"), -1);
+        successStatusReturnType = MethodParameter.forExecutable(
+            SampleController.class.getDeclaredMethod("createUsers"), -1);
+        request = new ServletServerHttpRequest(new MockHttpServletRequest("GET", "/api/users"));
+        response = new ServletServerHttpResponse(new MockHttpServletResponse());
+        users = LongStream.rangeClosed(1, 20)
+            .mapToObj(id -> UserFixture.createUserProfileResponseDto("user" + id, id))
+            .toList();
+        wrappedUsers = ApiResponse.success(users, HttpStatus.OK);
+    }
+
+    @Benchmark
+    public Object wrapBody() {
+        return beforeBodyWrite(users, plainReturnType);
+    }
+
+    @Benchmark
+    public Object wrapBodyWithSuccessStatus() {
+        return beforeBodyWrite(users, successStatusReturnType);
+    }
+
+    @Benchmark
+    public Object passThroughApiResponse() {
+        return beforeBodyWrite(wrappedUsers, plainReturnType);
+    }
+
+    private Object beforeBodyWrite(Object body, MethodParameter returnType) {
+        return apiResponseAdvice.beforeBodyWrite(body, returnType, MediaType.APPLICATION_JSON,
+            MappingJackson2HttpMessageConverter.class, request, response);
+    }
+
+    static class SampleController {
+
+        List<UserProfileResponseDto> getUsers() {
+            return List.of();
+        }
+
+        @SuccessStatus(HttpStatus.CREATED)
+        List<UserProfileResponseDto> createUsers() {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.climbx.climbx.common.response;
+
+import com.climbx.climbx.common.timeTracking.TimeContext;
+import com.climbx.climbx.fixture.UserFixture;
+import com.climbx.climbx.user.dto.UserProfileResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 목록 응답 봉투 직렬화 비교. objectMapper* 벤치마크는 기존 ApiResponseAdvice + MappingJackson2HttpMessageConverter 경로를
+ * 재현합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ApiResponseSerializationBenchmark {
+
+    @Param({"1", "50", "500"})
+    private int size;
+
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private ObjectMapper objectMapper;
+    private ApiResponseJsonWriter apiResponseJsonWriter;
+    private List<UserProfileResponseDto> users;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        apiResponseJsonWriter = new ApiResponseJsonWriter(objectMapper);
+        users = LongStream.rangeClosed(1, size)
+            .mapToObj(id -> UserFixture.createUserProfileResponseDto("user" + id, id))
+            .toList();
+
+        TimeContext.setStartTime(System.nanoTime());
+        TimeContext.setPath("/api/users");
+    }
+
+    @Benchmark
+    public void objectMapperEnvelope() throws IOException {
+        objectMapper.writeValue(sink, ApiResponse.success(users, HttpStatus.OK));
+    }
+
+    @Benchmark
+    public void streamingEnvelope() throws IOException {
+        apiResponseJsonWriter.write(ApiResponse.success(users, HttpStatus.OK), sink);
+    }
+}
@@ -0,0 +1,77 @@
+package com.climbx.climbx.common.security;
+
+import com.climbx.climbx.common.comcode.enums.ComcodeType;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+/**
+ * 로그인 폭주 시 토큰 발급 처리량 비교. nimbus* 벤치마크는 기존 JwtClaimsSet + NimbusJwtEncoder 발급 경로를 재현합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class JwtIssuanceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-issuance-that-is-long-enough";
+    private static final String ISSUER = "climbx-bench";
+    private static final String AUDIENCE = "climbx-bench-client";
+    private static final long EXPIRATION = 3600;
+
+    private JwtContext jwtContext;
+    private JwtEncoder nimbusEncoder;
+
+    @Setup
+    public void setUp() {
+        jwtContext = new JwtContext(
+            SECRET, EXPIRATION, EXPIRATION, ISSUER, AUDIENCE, "HS256");
+        nimbusEncoder = new NimbusJwtEncoder(new ImmutableSecret<>(
+            new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HS256")));
+    }
+
+    @Benchmark
+    public String issueAccessToken() {
+        return jwtContext.generateAccessToken(1L, "USER").accessToken();
+    }
+
+    @Benchmark
+    public String issueRefreshToken() {
+        return jwtContext.generateRefreshToken(1L);
+    }
+
+    @Benchmark
+    public String nimbusIssueAccessToken() {
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+            .issuer(ISSUER)
+            .audience(List.of(AUDIENCE))
+            .subject(String.valueOf(1L))
+            .issuedAt(now)
+            .expiresAt(now.plusSeconds(EXPIRATION))
+            .claim("role", ComcodeType.USER.code())
+            .claim("type", ComcodeType.ACCESS.code())
+            .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256)
+            .type("JWT")
+            .build();
+        return nimbusEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+}
@@ -0,0 +1,108 @@
+package com.climbx.climbx.common.security;
+
+import com.climbx.climbx.common.security.dto.JwtTokenInfo;
+import com.climbx.climbx.common.security.dto.TokenValidationResult;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.spec.SecretKeySpec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+/**
+ * 만료/위조 토큰이 몰릴 때의 검증 처리량 비교. legacy* 벤치마크는 기존 NimbusJwtDecoder + 예외 기반 경로를 재현합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-validation-that-is-long-enough";
+    private static final String ISSUER = "climbx-bench";
+    private static final String AUDIENCE = "climbx-bench-client";
+
+    private JwtContext jwtContext;
+    private NimbusJwtDecoder legacyDecoder;
+
+    private String validToken;
+    private String expiredToken;
+    private String forgedToken;
+    private String malformedToken;
+
+    @Setup
+    public void setUp() {
+        jwtContext = new JwtContext(SECRET, 3600, 86400, ISSUER, AUDIENCE, "HS256");
+        JwtContext expiredContext = new JwtContext(
+            SECRET, -3600, 86400, ISSUER, AUDIENCE, "HS256");
+        JwtContext forgedContext = new JwtContext(
+            SECRET + "-forged", 3600, 86400, ISSUER, AUDIENCE, "HS256");
+
+        validToken = jwtContext.generateAccessToken(1L, "USER").accessToken();
+        expiredToken = expiredContext.generateAccessToken(1L, "USER").accessToken();
+        forgedToken = forgedContext.generateAccessToken(1L, "USER").accessToken();
+        malformedToken = "eyJhbGciOiJIUzI1NiJ9.bm90LWpzb24.c2lnbmF0dXJl";
+
+        legacyDecoder = NimbusJwtDecoder
+            .withSecretKey(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HS256"))
+            .build();
+    }
+
+    @Benchmark
+    public TokenValidationResult validateValid() {
+        return jwtContext.validateToken(validToken);
+    }
+
+    @Benchmark
+    public TokenValidationResult validateExpired() {
+        return jwtContext.validateToken(expiredToken);
+    }
+
+    @Benchmark
+    public TokenValidationResult validateForged() {
+        return jwtContext.validateToken(forgedToken);
+    }
+
+    @Benchmark
+    public TokenValidationResult validateMalformed() {
+        return jwtContext.validateToken(malformedToken);
+    }
+
+    @Benchmark
+    public JwtTokenInfo parseValid() {
+        return jwtContext.parseToken(validToken);
+    }
+
+    @Benchmark
+    public void parseExpired(Blackhole blackhole) {
+        try {
+            blackhole.consume(jwtContext.parseToken(expiredToken));
+        } catch (RuntimeException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public void legacyDecodeExpired(Blackhole blackhole) {
+        legacyDecode(expiredToken, blackhole);
+    }
+
+    @Benchmark
+    public void legacyDecodeForged(Blackhole blackhole) {
+        legacyDecode(forgedToken, blackhole);
+    }
+
+    private void legacyDecode(String token, Blackhole blackhole) {
+        try {
+            blackhole.consume(legacyDecoder.decode(token));
+        } catch (JwtException e) {
+            blackhole.consume(e.getMessage().contains("expired"));
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.climbx.climbx.problem;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.climbx.climbx.fixture.GymFixture;
+import com.climbx.climbx.fixture.ProblemFixture;
+import com.climbx.climbx.gym.entity.GymEntity;
+import com.climbx.climbx.gym.repository.GymRepository;
+import com.climbx.climbx.problem.dto.ProblemInfoInSpotResponseDto;
+import com.climbx.climbx.problem.dto.SpotResponseDto;
+import com.climbx.climbx.problem.repository.ProblemRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 문제 목록을 spot별로 그룹화하는 경로. Repository는 메모리의 fixture(projection 결과)를 반환하므로 그룹화 비용만 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProblemServiceBenchmark {
+
+    private static final Long GYM_ID = 1L;
+    private static final int SPOT_COUNT = 20;
+
+    @Param({"10", "100", "1000"})
+    private int problemCount;
+
+    private ProblemService problemService;
+
+    @Setup
+    public void setUp() {
+        GymEntity gym = GymFixture.createGymEntity(GYM_ID, "더클라임 강남", 37.5, 127.0);
+        List<ProblemInfoInSpotResponseDto> problems = LongStream.rangeClosed(1, problemCount)
+            .mapToObj(id -> ProblemFixture.createProblemEntity(id, gym,
+                ProblemFixture.DEFAULT_LOCAL_LEVEL, ProblemFixture.DEFAULT_HOLD_COLOR,
+                ProblemFixture.DEFAULT_PROBLEM_RATING, id % SPOT_COUNT + 1,
+                ProblemFixture.DEFAULT_SPOT_X_RATIO, ProblemFixture.DEFAULT_SPOT_Y_RATIO))
+            .map(ProblemInfoInSpotResponseDto::from)
+            .toList();
+
+        ProblemRepository problemRepository = mock(ProblemRepository.class,
+            withSettings().stubOnly());
+        GymRepository gymRepository = mock(GymRepository.class, withSettings().stubOnly());
+        given(gymRepository.findMap2dUrlByGymId(GYM_ID)).willReturn(Optional.of(gym.map2dUrl()));
+        given(problemRepository.findByGym_GymIdAndLocalLevelAndHoldColor(GYM_ID,
+            ProblemFixture.DEFAULT_LOCAL_LEVEL, ProblemFixture.DEFAULT_HOLD_COLOR))
+            .willReturn(problems);
+
+        problemService = new ProblemService(problemRepository, gymRepository);
+    }
+
+    @Benchmark
+    public SpotResponseDto getProblemSpotsWithFilters() {
+        return problemService.getProblemSpotsWithFilters(GYM_ID,
+            ProblemFixture.DEFAULT_LOCAL_LEVEL, ProblemFixture.DEFAULT_HOLD_COLOR);
+    }
+}
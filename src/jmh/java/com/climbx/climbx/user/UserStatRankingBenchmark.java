@@ -0,0 +1,166 @@
+package com.climbx.climbx.user;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 1M 행 user_stats 에서 레이팅 리더보드 조회 방식별 응답 시간 비교.
+ * <ul>
+ *     <li>offset*: 기존 findAllByOrderByRatingDesc(Pageable) 와 같은 ORDER BY ... LIMIT ? OFFSET ?</li>
+ *     <li>keyset*: UserStatRepository.findRatingRanking 과 같은 (rating, user_id) keyset 조회</li>
+ *     <li>rank: UserStatRepository.countByRatingGreaterThan 과 같은 순위 계산</li>
+ * </ul>
+ * indexes=none 은 PK만 있는 테이블, indexes=ranking 은 V4 마이그레이션과 같은 (deleted_at, rating DESC, user_id)
+ * 인덱스를 둔 테이블입니다. MySQL이 필요하며 -Dbenchmark.db.url, -Dbenchmark.db.user, -Dbenchmark.db.password 로
+ * 지정합니다. 스키마를 건드리지 않도록 bench_ 접두사의 임시 테이블을 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserStatRankingBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_OFFSET = 500_000;
+    private static final long MAX_RATING = 3_000;
+
+    private static final String OFFSET_SQL = """
+        SELECT user_id, rating FROM bench_user_stats_ranking
+        WHERE deleted_at IS NULL
+        ORDER BY rating DESC, user_id ASC
+        LIMIT ? OFFSET ?
+        """;
+
+    private static final String KEYSET_SQL = """
+        SELECT user_id, rating FROM bench_user_stats_ranking
+        WHERE deleted_at IS NULL
+          AND (rating < ? OR (rating = ? AND user_id > ?))
+        ORDER BY rating DESC, user_id ASC
+        LIMIT ?
+        """;
+
+    private static final String RANK_SQL = """
+        SELECT COUNT(*) FROM bench_user_stats_ranking
+        WHERE deleted_at IS NULL AND rating > ?
+        """;
+
+    @Param({"none", "ranking"})
+    public String indexes;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private long deepLastRating;
+    private long deepLastUserId;
+    private long medianRating;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(System.getProperty("benchmark.db.url",
+            "jdbc:mysql://localhost:3306/climbx?serverTimezone=Asia/Seoul&useSSL=false"
+                + "&allowPublicKeyRetrieval=true"));
+        config.setUsername(System.getProperty("benchmark.db.user", "dev_user"));
+        config.setPassword(System.getProperty("benchmark.db.password", "dev_password"));
+        config.setMaximumPoolSize(2);
+        config.addDataSourceProperty("rewriteBatchedStatements", "true");
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_user_stats_ranking");
+        jdbcTemplate.execute("""
+            CREATE TABLE bench_user_stats_ranking (
+                user_id BIGINT PRIMARY KEY,
+                rating BIGINT NOT NULL,
+                deleted_at DATETIME(6)
+            )
+            """);
+        fill();
+        if ("ranking".equals(indexes)) {
+            jdbcTemplate.execute("CREATE INDEX idx_bench_rating "
+                + "ON bench_user_stats_ranking (deleted_at, rating DESC, user_id)");
+        }
+        jdbcTemplate.execute("ANALYZE TABLE bench_user_stats_ranking");
+
+        // keyset 깊은 페이지는 offset 깊은 페이지와 같은 위치에서 시작하도록 직전 항목을 미리 구함
+        Map<String, Object> deepLast = jdbcTemplate.queryForMap(OFFSET_SQL, 1, DEEP_OFFSET - 1);
+        deepLastRating = ((Number) deepLast.get("rating")).longValue();
+        deepLastUserId = ((Number) deepLast.get("user_id")).longValue();
+        medianRating = MAX_RATING / 2;
+    }
+
+    /**
+     * 레이팅은 동점이 많도록 좁은 범위에서 생성하고, 1% 는 탈퇴 사용자로 둡니다.
+     */
+    private void fill() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long userId = 1; userId <= ROWS; userId++) {
+            long rating = (random.nextLong(MAX_RATING) + random.nextLong(MAX_RATING)) / 2;
+            Object deletedAt = random.nextInt(100) == 0 ? "2025-01-01 00:00:00" : null;
+            batch.add(new Object[]{userId, rating, deletedAt});
+            if (batch.size() == BATCH_SIZE) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+    }
+
+    private void insert(List<Object[]> rows) {
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO bench_user_stats_ranking (user_id, rating, deleted_at) VALUES (?, ?, ?)",
+            rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS bench_user_stats_ranking");
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> offsetFirstPage() {
+        return jdbcTemplate.queryForList(OFFSET_SQL, PAGE_SIZE, 0);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> offsetDeepPage() {
+        return jdbcTemplate.queryForList(OFFSET_SQL, PAGE_SIZE, DEEP_OFFSET);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> keysetFirstPage() {
+        return jdbcTemplate.queryForList(KEYSET_SQL,
+            Long.MAX_VALUE, Long.MAX_VALUE, 0L, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> keysetDeepPage() {
+        return jdbcTemplate.queryForList(KEYSET_SQL,
+            deepLastRating, deepLastRating, deepLastUserId, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public Long rank() {
+        return jdbcTemplate.queryForObject(RANK_SQL, Long.class, medianRating);
+    }
+}
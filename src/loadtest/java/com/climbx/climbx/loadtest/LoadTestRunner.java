@@ -0,0 +1,256 @@
+package com.climbx.climbx.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 주요 조회 API 조합을 재생하고 시나리오별 지연시간 백분위를 출력하는 부하 테스트 러너입니다.
+ * <p>
+ * concurrency 개의 virtual thread가 각자 가중치에 따라 시나리오를 골라 요청을 보냅니다. warmup 동안의 측정값은 버립니다. 대상
+ * 데이터는 {@link SyntheticDataGenerator}로 생성한 사용자/클라이밍장을 가정합니다.
+ * <ul>
+ *     <li>closed model (기본): 응답을 받으면 바로 다음 요청을 보냅니다. 서버가 느려지면 보내지 못한 요청이 측정에서 빠지므로
+ *     (coordinated omission) 결과는 사용자 체감 지연이 아닌 서비스 시간입니다.</li>
+ *     <li>open model (climbx.rate > 0): 전체 초당 climbx.rate 건을 워커에 나누어 고정 간격으로 보내고, 실제 전송 시각이 아닌
+ *     예정 전송 시각부터 응답까지를 기록합니다. 앞 요청이 늦어져 밀린 대기 시간도 지연에 포함됩니다.</li>
+ * </ul>
+ * <pre>
+ * ./gradlew loadTest -Dclimbx.baseUrl=http://localhost:8080 -Dclimbx.concurrency=200
+ * ./gradlew loadTest -Dclimbx.concurrency=400 -Dclimbx.rate=2000
+ * </pre>
+ */
+public class LoadTestRunner {
+
+    private static final long MAX_TRACKABLE_NANOS = Duration.ofSeconds(60).toNanos();
+
+    private final String baseUrl = System.getProperty("climbx.baseUrl", "http://localhost:8080");
+    private final int concurrency = Integer.getInteger("climbx.concurrency", 100);
+    // 0 이하면 closed model, 양수면 전체 초당 요청 수를 고정한 open model
+    private final double rate = Double.parseDouble(System.getProperty("climbx.rate", "0"));
+    private final Duration warmup = Duration.parse(System.getProperty("climbx.warmup", "PT30S"));
+    private final Duration duration = Duration.parse(
+        System.getProperty("climbx.duration", "PT2M"));
+    private final int users = Integer.getInteger("climbx.users", 100_000);
+    private final int gyms = Integer.getInteger("climbx.gyms", 300);
+    // 생성기가 출력한 시작 ID 오프셋 (기존 데이터 뒤에 이어서 생성된 경우)
+    private final long userIdOffset = Long.getLong("climbx.userIdOffset", 0L);
+    private final long gymIdOffset = Long.getLong("climbx.gymIdOffset", 0L);
+    private final ZipfSampler userSampler = new ZipfSampler(users,
+        Double.parseDouble(System.getProperty("climbx.zipfExponent", "1.05")));
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(5))
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    private final List<Scenario> scenarios = List.of(
+        new Scenario("GET /api/gyms/{gymId}", 15,
+            random -> "/api/gyms/" + gymId(random)),
+        new Scenario("GET /api/gyms/search", 10,
+            random -> "/api/gyms/search?keyword=" + encode("클라이밍장 " + gymId(random))),
+        new Scenario("GET /api/gyms/nearby", 10,
+            random -> String.format("/api/gyms/nearby?latitude=%.5f&longitude=%.5f",
+                37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4)),
+        new Scenario("GET /api/problems", 20,
+            random -> "/api/problems?gymId=" + gymId(random)
+                + "&localLevel=" + encode("파랑") + "&holdColor=" + encode("빨강")),
+        new Scenario("GET /api/users?search", 5,
+            random -> "/api/users?search=" + encode("user" + (1 + random.nextInt(1000)))),
+        new Scenario("GET /api/users/{nickname}", 20,
+            random -> "/api/users/" + nickname(random)),
+        new Scenario("GET /api/users/{nickname}/top-problems", 10,
+            random -> "/api/users/" + nickname(random) + "/top-problems"),
+        new Scenario("GET /api/users/{nickname}/history", 10,
+            random -> "/api/users/" + nickname(random) + "/history?criteria=RATING")
+    );
+    private final int totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+
+    private volatile boolean running = true;
+
+    public static void main(String[] args) throws InterruptedException {
+        new LoadTestRunner().run();
+    }
+
+    public void run() throws InterruptedException {
+        System.out.printf("[loadtest] %s concurrency=%d warmup=%s duration=%s model=%s%n",
+            baseUrl, concurrency, warmup, duration,
+            openModel() ? String.format("open(rate=%.1f/s)", rate) : "closed");
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(this::work);
+            }
+
+            Thread.sleep(warmup.toMillis());
+            scenarios.forEach(Scenario::reset);
+            long measureStart = System.nanoTime();
+
+            Thread.sleep(duration.toMillis());
+            running = false;
+            report((System.nanoTime() - measureStart) / 1_000_000_000.0);
+        }
+    }
+
+    private boolean openModel() {
+        return rate > 0;
+    }
+
+    private void work() {
+        RandomGenerator random = ThreadLocalRandom.current();
+        long intervalNanos = openModel() ? Math.round(concurrency * 1_000_000_000.0 / rate) : 0;
+        // 워커마다 첫 전송 시각을 간격 안에서 흩어 요청이 한꺼번에 몰리지 않도록 함
+        long intendedStart = System.nanoTime()
+            + (intervalNanos > 0 ? random.nextLong(intervalNanos) : 0);
+        while (running) {
+            long start;
+            if (intervalNanos > 0) {
+                waitUntil(intendedStart);
+                start = intendedStart;
+                intendedStart += intervalNanos;
+            } else {
+                start = System.nanoTime();
+            }
+
+            Scenario scenario = pick(random);
+            URI uri = URI.create(baseUrl + scenario.path(random));
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+
+            try {
+                HttpResponse<Void> response = client.send(request,
+                    HttpResponse.BodyHandlers.discarding());
+                scenario.record(System.nanoTime() - start, response.statusCode() < 400);
+            } catch (IOException e) {
+                scenario.record(System.nanoTime() - start, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void waitUntil(long nanoTime) {
+        long delay;
+        while (running && (delay = nanoTime - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(delay);
+        }
+    }
+
+    private Scenario pick(RandomGenerator random) {
+        int value = random.nextInt(totalWeight);
+        for (Scenario scenario : scenarios) {
+            value -= scenario.weight();
+            if (value < 0) {
+                return scenario;
+            }
+        }
+        return scenarios.getLast();
+    }
+
+    private void report(double seconds) {
+        String header = String.format("%-42s %9s %8s %8s %8s %8s %8s %8s %7s",
+            "scenario", "count", "rps", "p50", "p95", "p99", "p99.9", "max", "errors");
+        System.out.println(header);
+
+        Histogram total = new Histogram(MAX_TRACKABLE_NANOS, 3);
+        long totalErrors = 0;
+        for (Scenario scenario : scenarios) {
+            Histogram histogram = scenario.latencies.copy();
+            total.add(histogram);
+            totalErrors += scenario.errors.get();
+            printRow(scenario.name(), histogram, scenario.errors.get(), seconds);
+        }
+        printRow("TOTAL", total, totalErrors, seconds);
+        System.out.println(openModel()
+            ? "(latency 단위: ms, 예정 전송 시각 기준 응답 시간)"
+            : "(latency 단위: ms, closed model 서비스 시간 - 밀려서 보내지 못한 요청의 대기는 포함되지 않음)");
+    }
+
+    private static void printRow(String name, Histogram histogram, long errors, double seconds) {
+        System.out.printf("%-42s %9d %8.1f %8.2f %8.2f %8.2f %8.2f %8.2f %7d%n",
+            name,
+            histogram.getTotalCount(),
+            histogram.getTotalCount() / seconds,
+            millis(histogram.getValueAtPercentile(50)),
+            millis(histogram.getValueAtPercentile(95)),
+            millis(histogram.getValueAtPercentile(99)),
+            millis(histogram.getValueAtPercentile(99.9)),
+            millis(histogram.getMaxValue()),
+            errors);
+    }
+
+    private String nickname(RandomGenerator random) {
+        // 생성기와 같은 분포로 활동이 많은 사용자를 더 자주 조회
+        return SyntheticDataGenerator.nickname(userIdOffset + userSampler.next(random));
+    }
+
+    private long gymId(RandomGenerator random) {
+        return gymIdOffset + 1 + random.nextInt(gyms);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class Scenario {
+
+        private final String name;
+        private final int weight;
+        private final Function<RandomGenerator, String> pathFactory;
+        private final ConcurrentHistogram latencies = new ConcurrentHistogram(
+            MAX_TRACKABLE_NANOS, 3);
+        private final AtomicLong errors = new AtomicLong();
+
+        Scenario(String name, int weight, Function<RandomGenerator, String> pathFactory) {
+            this.name = name;
+            this.weight = weight;
+            this.pathFactory = pathFactory;
+        }
+
+        String name() {
+            return name;
+        }
+
+        int weight() {
+            return weight;
+        }
+
+        String path(RandomGenerator random) {
+            return pathFactory.apply(random);
+        }
+
+        void record(long nanos, boolean success) {
+            latencies.recordValue(Math.min(nanos, MAX_TRACKABLE_NANOS));
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+
+        void reset() {
+            latencies.reset();
+            errors.set(0);
+        }
+    }
+}
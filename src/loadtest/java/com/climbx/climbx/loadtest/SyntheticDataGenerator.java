@@ -0,0 +1,347 @@
+package com.climbx.climbx.loadtest;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 실행 계획/부하 테스트용 대용량 합성 데이터를 생성합니다.
+ * <p>
+ * user_accounts, user_stats, gyms, problems, videos, submissions, user_ranking_histories 를 채우며,
+ * 제출은 Zipf 분포로 일부 사용자/문제에 몰리도록 생성합니다. 기존 데이터 뒤에 이어서 ID를 직접 지정해 넣고,
+ * rewriteBatchedStatements로 multi-row INSERT로 전송합니다.
+ * <pre>
+ * ./gradlew generateData -Dclimbx.users=1000000 -Dclimbx.submissions=50000000
+ * </pre>
+ */
+public class SyntheticDataGenerator {
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final int BATCHES_PER_COMMIT = 20;
+    private static final String[] LEVELS = {"빨강", "주황", "노랑", "초록", "파랑", "남색", "보라", "검정"};
+    private static final String[] HOLD_COLORS = {"빨강", "초록", "파랑", "노랑", "보라", "흰색", "검정"};
+
+    private final int users = Integer.getInteger("climbx.users", 100_000);
+    private final int gyms = Integer.getInteger("climbx.gyms", 300);
+    private final int problemsPerGym = Integer.getInteger("climbx.problemsPerGym", 200);
+    private final long submissions = Long.getLong("climbx.submissions", 2_000_000L);
+    private final int historyWeeks = Integer.getInteger("climbx.historyWeeks", 52);
+    private final double zipfExponent = Double.parseDouble(
+        System.getProperty("climbx.zipfExponent", "1.05"));
+    private final SplittableRandom random = new SplittableRandom(
+        Long.getLong("climbx.seed", 42L));
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private final Connection connection;
+
+    private long userIdOffset;
+    private long gymIdOffset;
+    private long problemIdOffset;
+    private long videoIdOffset;
+
+    public SyntheticDataGenerator(Connection connection) {
+        this.connection = connection;
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = System.getProperty("climbx.db.url",
+            "jdbc:mysql://localhost:3306/climbx?serverTimezone=Asia/Seoul&useSSL=false"
+                + "&allowPublicKeyRetrieval=true");
+        if (!url.contains("rewriteBatchedStatements")) {
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+
+        try (Connection connection = DriverManager.getConnection(url,
+            System.getProperty("climbx.db.user", "dev_user"),
+            System.getProperty("climbx.db.password", "dev_password"))) {
+            connection.setAutoCommit(false);
+            new SyntheticDataGenerator(connection).generate();
+        }
+    }
+
+    public void generate() throws SQLException {
+        userIdOffset = maxId("user_accounts", "user_id");
+        gymIdOffset = maxId("gyms", "gym_id");
+        problemIdOffset = maxId("problems", "problem_id");
+        videoIdOffset = maxId("videos", "video_id");
+
+        // LoadTestRunner 에 -Dclimbx.userIdOffset, -Dclimbx.gymIdOffset 으로 전달
+        log("userIdOffset=%d gymIdOffset=%d", userIdOffset, gymIdOffset);
+
+        long start = System.nanoTime();
+        generateUsers();
+        generateGyms();
+        generateProblems();
+        int[] solvedCounts = generateSubmissions();
+        generateUserStats(solvedCounts);
+        generateRankingHistories(solvedCounts);
+        log("완료: %ds", (System.nanoTime() - start) / 1_000_000_000L);
+    }
+
+    private void generateUsers() throws SQLException {
+        String sql = "INSERT INTO user_accounts (user_id, role, nickname, email, status_message, "
+            + "profile_image_url, last_login_date, created_at, updated_at, deleted_at) "
+            + "VALUES (?, 'USER', ?, ?, ?, NULL, ?, ?, ?, NULL)";
+        try (BatchWriter writer = new BatchWriter(sql, "user_accounts")) {
+            for (int i = 1; i <= users; i++) {
+                long userId = userIdOffset + i;
+                Timestamp createdAt = randomPastTimestamp(730);
+                PreparedStatement ps = writer.statement();
+                ps.setLong(1, userId);
+                ps.setString(2, nickname(userId));
+                ps.setString(3, "user" + userId + "@example.com");
+                ps.setString(4, "synthetic user " + userId);
+                ps.setObject(5, LocalDate.now().minusDays(random.nextInt(90)));
+                ps.setTimestamp(6, createdAt);
+                ps.setTimestamp(7, createdAt);
+                writer.add();
+            }
+        }
+    }
+
+    private void generateGyms() throws SQLException {
+        String sql = "INSERT INTO gyms (gym_id, name, latitude, longitude, address, phone_number, "
+            + "map_2d_url, created_at, updated_at, deleted_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, NULL)";
+        try (BatchWriter writer = new BatchWriter(sql, "gyms")) {
+            for (int i = 1; i <= gyms; i++) {
+                long gymId = gymIdOffset + i;
+                Timestamp createdAt = randomPastTimestamp(730);
+                PreparedStatement ps = writer.statement();
+                ps.setLong(1, gymId);
+                ps.setString(2, "합성 클라이밍장 " + gymId);
+                // 수도권 범위에 분포
+                ps.setDouble(3, 37.4 + random.nextDouble() * 0.3);
+                ps.setDouble(4, 126.8 + random.nextDouble() * 0.4);
+                ps.setString(5, "서울시 합성구 " + gymId);
+                ps.setString(6, "02-000-" + (1000 + i % 9000));
+                ps.setString(7, "https://example.com/map/" + gymId);
+                ps.setTimestamp(8, createdAt);
+                ps.setTimestamp(9, createdAt);
+                writer.add();
+            }
+        }
+    }
+
+    private void generateProblems() throws SQLException {
+        String sql = "INSERT INTO problems (problem_id, gym_id, local_level, hold_color, "
+            + "problem_rating, spot_id, spot_x_ratio, spot_y_ratio, image_url, created_at, "
+            + "updated_at, deleted_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NULL)";
+        try (BatchWriter writer = new BatchWriter(sql, "problems")) {
+            long problemId = problemIdOffset;
+            for (int gym = 1; gym <= gyms; gym++) {
+                for (int i = 1; i <= problemsPerGym; i++) {
+                    problemId++;
+                    Timestamp createdAt = randomPastTimestamp(365);
+                    PreparedStatement ps = writer.statement();
+                    ps.setLong(1, problemId);
+                    ps.setLong(2, gymIdOffset + gym);
+                    ps.setString(3, LEVELS[random.nextInt(LEVELS.length)]);
+                    ps.setString(4, HOLD_COLORS[random.nextInt(HOLD_COLORS.length)]);
+                    ps.setLong(5, random.nextLong(1, 3000));
+                    ps.setLong(6, 1 + random.nextInt(30));
+                    ps.setDouble(7, random.nextDouble() * 100);
+                    ps.setDouble(8, random.nextDouble() * 100);
+                    ps.setString(9, "https://example.com/problem/" + problemId + ".jpg");
+                    ps.setTimestamp(10, createdAt);
+                    ps.setTimestamp(11, createdAt);
+                    writer.add();
+                }
+            }
+        }
+    }
+
+    /**
+     * 제출마다 영상 1개를 만들고, 사용자/문제는 Zipf 분포로 고릅니다.
+     *
+     * @return 사용자별 승인된 제출 수 (user_stats 계산용)
+     */
+    private int[] generateSubmissions() throws SQLException {
+        int problems = gyms * problemsPerGym;
+        ZipfSampler userSampler = new ZipfSampler(users, zipfExponent);
+        ZipfSampler problemSampler = new ZipfSampler(problems, zipfExponent);
+        int[] solvedCounts = new int[users + 1];
+
+        String videoSql = "INSERT INTO videos (video_id, user_id, created_at, updated_at, "
+            + "deleted_at) VALUES (?, ?, ?, ?, NULL)";
+        String submissionSql = "INSERT INTO submissions (video_id, problem_id, status, "
+            + "reject_reason, appeal_status, created_at, updated_at, deleted_at) "
+            + "VALUES (?, ?, ?, ?, 'PENDING', ?, ?, NULL)";
+        try (BatchWriter videos = new BatchWriter(videoSql, "videos");
+            BatchWriter submissionsWriter = new BatchWriter(submissionSql, "submissions")) {
+            for (long i = 1; i <= submissions; i++) {
+                long videoId = videoIdOffset + i;
+                int userRank = userSampler.next(random);
+                Timestamp createdAt = randomPastTimestamp(365);
+
+                PreparedStatement video = videos.statement();
+                video.setLong(1, videoId);
+                video.setLong(2, userIdOffset + userRank);
+                video.setTimestamp(3, createdAt);
+                video.setTimestamp(4, createdAt);
+                videos.add();
+
+                String status = randomStatus();
+                if ("ACCEPTED".equals(status)) {
+                    solvedCounts[userRank]++;
+                }
+                PreparedStatement submission = submissionsWriter.statement();
+                submission.setLong(1, videoId);
+                submission.setLong(2, problemIdOffset + problemSampler.next(random));
+                submission.setString(3, status);
+                submission.setString(4, "REJECTED".equals(status) ? "WRONG PROBLEM" : null);
+                submission.setTimestamp(5, createdAt);
+                submission.setTimestamp(6, createdAt);
+                // 외래 키 순서를 지키기 위해 영상 batch를 먼저 전송
+                if (videos.add()) {
+                    submissionsWriter.flush();
+                }
+                submissionsWriter.add();
+            }
+        }
+        return solvedCounts;
+    }
+
+    private void generateUserStats(int[] solvedCounts) throws SQLException {
+        String sql = "INSERT INTO user_stats (user_id, rating, current_streak, longest_streak, "
+            + "solved_problems_count, rival_count, created_at, updated_at, deleted_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, NULL)";
+        Timestamp createdAt = Timestamp.valueOf(now);
+        try (BatchWriter writer = new BatchWriter(sql, "user_stats")) {
+            for (int rank = 1; rank <= users; rank++) {
+                int solved = solvedCounts[rank];
+                long longestStreak = Math.min(solved, random.nextInt(1, 60));
+                PreparedStatement ps = writer.statement();
+                ps.setLong(1, userIdOffset + rank);
+                ps.setLong(2, Math.min(3000, solved * 7L + random.nextInt(100)));
+                ps.setLong(3, longestStreak == 0 ? 0 : random.nextLong(0, longestStreak + 1));
+                ps.setLong(4, longestStreak);
+                ps.setLong(5, solved);
+                ps.setLong(6, random.nextInt(10));
+                ps.setTimestamp(7, createdAt);
+                ps.setTimestamp(8, createdAt);
+                writer.add();
+            }
+        }
+    }
+
+    /**
+     * 활동한 사용자마다 주간 RATING 히스토리를 남깁니다. 활동량이 많을수록 기록 기간이 깁니다.
+     */
+    private void generateRankingHistories(int[] solvedCounts) throws SQLException {
+        String sql = "INSERT INTO user_ranking_histories (user_id, part, value, created_at, "
+            + "updated_at, deleted_at) VALUES (?, 'RATING', ?, ?, ?, NULL)";
+        try (BatchWriter writer = new BatchWriter(sql, "user_ranking_histories")) {
+            for (int rank = 1; rank <= users; rank++) {
+                int solved = solvedCounts[rank];
+                if (solved == 0) {
+                    continue;
+                }
+                int weeks = Math.min(historyWeeks, 1 + solved / 5);
+                long rating = 0;
+                for (int week = weeks; week >= 1; week--) {
+                    rating += random.nextInt(0, 60);
+                    Timestamp createdAt = Timestamp.valueOf(now.minusWeeks(week));
+                    PreparedStatement ps = writer.statement();
+                    ps.setLong(1, userIdOffset + rank);
+                    ps.setLong(2, rating);
+                    ps.setTimestamp(3, createdAt);
+                    ps.setTimestamp(4, createdAt);
+                    writer.add();
+                }
+            }
+        }
+    }
+
+    private String randomStatus() {
+        int value = random.nextInt(100);
+        if (value < 85) {
+            return "ACCEPTED";
+        }
+        return value < 95 ? "PENDING" : "REJECTED";
+    }
+
+    private Timestamp randomPastTimestamp(int maxDays) {
+        return Timestamp.valueOf(now.minusSeconds(random.nextLong(maxDays * 86_400L)));
+    }
+
+    static String nickname(long userId) {
+        return "user" + userId;
+    }
+
+    private long maxId(String table, String idColumn) throws SQLException {
+        try (Statement statement = connection.createStatement();
+            ResultSet rs = statement.executeQuery(
+                "SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.printf("[generator] " + format + "%n", args);
+    }
+
+    /**
+     * BATCH_SIZE 단위로 executeBatch, BATCHES_PER_COMMIT 단위로 commit 합니다.
+     */
+    private class BatchWriter implements AutoCloseable {
+
+        private final PreparedStatement statement;
+        private final String table;
+        private int pending;
+        private int batches;
+        private long rows;
+
+        BatchWriter(String sql, String table) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+            this.table = table;
+        }
+
+        PreparedStatement statement() {
+            return statement;
+        }
+
+        /**
+         * 현재 행을 batch에 추가하고, batch가 전송되었으면 true를 반환합니다.
+         */
+        boolean add() throws SQLException {
+            statement.addBatch();
+            rows++;
+            if (++pending < BATCH_SIZE) {
+                return false;
+            }
+            flush();
+            return true;
+        }
+
+        void flush() throws SQLException {
+            if (pending == 0) {
+                return;
+            }
+            statement.executeBatch();
+            pending = 0;
+            if (++batches % BATCHES_PER_COMMIT == 0) {
+                connection.commit();
+                if (batches % (BATCHES_PER_COMMIT * 50) == 0) {
+                    log("%s: %,d rows", table, rows);
+                }
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            flush();
+            connection.commit();
+            statement.close();
+            log("%s: %,d rows 완료", table, rows);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.climbx.climbx.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 1..n 범위에서 Zipf 분포(순위 k의 확률 ∝ 1/k^s)로 값을 뽑습니다.
+ * <p>
+ * 소수의 사용자/문제에 활동이 몰리는 실제 분포를 흉내내기 위해 사용합니다.
+ */
+public class ZipfSampler {
+
+    private final double[] cumulative;
+
+    public ZipfSampler(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * 1부터 n 사이의 순위를 반환합니다. 작은 값일수록 자주 나옵니다.
+     */
+    public int next(RandomGenerator random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1;
+    }
+}
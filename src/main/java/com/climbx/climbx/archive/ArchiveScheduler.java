@@ -0,0 +1,60 @@
+package com.climbx.climbx.archive;
+
+import com.climbx.climbx.archive.repository.ArchiveJdbcRepository;
+import java.time.LocalDate;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 처리를 주기적으로 실행합니다. 가장 오래된 날짜부터 하루씩 처리하며, 한 번에 처리하는 일수를 제한해 밀린 데이터가 많아도 실행 시간이
+ * 길어지지 않도록 합니다. 여러 인스턴스에서 동시에 실행되지 않도록 한 인스턴스에서만 활성화합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "archive.enabled", havingValue = "true")
+public class ArchiveScheduler {
+
+    private final ArchiveService archiveService;
+    private final ArchiveJdbcRepository archiveJdbcRepository;
+    private final int maxDaysPerRun;
+
+    public ArchiveScheduler(
+        ArchiveService archiveService,
+        ArchiveJdbcRepository archiveJdbcRepository,
+        @Value("${archive.max-days-per-run:31}") int maxDaysPerRun
+    ) {
+        this.archiveService = archiveService;
+        this.archiveJdbcRepository = archiveJdbcRepository;
+        this.maxDaysPerRun = maxDaysPerRun;
+    }
+
+    @Scheduled(cron = "${archive.cron:0 30 4 * * *}")
+    public void archive() {
+        archiveJdbcRepository.createArchiveTables();
+        LocalDate cutoff = archiveService.cutoffDate();
+
+        archive(ArchiveJdbcRepository.RANKING_HISTORY_TABLE, cutoff,
+            archiveService::archiveRankingHistories);
+        archive(ArchiveJdbcRepository.SUBMISSION_TABLE, cutoff,
+            archiveService::archiveSubmissions);
+    }
+
+    private void archive(String table, LocalDate cutoff, ToIntFunction<LocalDate> archiveDay) {
+        LocalDate day = archiveJdbcRepository.findOldestDay(table, cutoff);
+        if (day == null) {
+            return;
+        }
+
+        int days = 0;
+        long rows = 0;
+        for (; day.isBefore(cutoff) && days < maxDaysPerRun; day = day.plusDays(1)) {
+            rows += archiveDay.applyAsInt(day);
+            days++;
+        }
+        log.info("{} 보관 처리 완료: days={}, rows={}, next={}", table, days, rows, day);
+    }
+}
@@ -0,0 +1,77 @@
+package com.climbx.climbx.archive;
+
+import com.climbx.climbx.archive.enums.RollupSource;
+import com.climbx.climbx.archive.repository.ArchiveJdbcRepository;
+import com.climbx.climbx.archive.repository.UserDailyRollupRepository;
+import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보관 기간(retention)이 지난 랭킹 히스토리와 제출을 일별 집계로 요약한 뒤 archive 테이블로 옮기고, 옮겨진 기간의 일별 히스토리를 집계에서
+ * 조회합니다.
+ */
+@Service
+public class ArchiveService {
+
+    private final ArchiveJdbcRepository archiveJdbcRepository;
+    private final UserDailyRollupRepository userDailyRollupRepository;
+    private final int retentionDays;
+
+    public ArchiveService(
+        ArchiveJdbcRepository archiveJdbcRepository,
+        UserDailyRollupRepository userDailyRollupRepository,
+        @Value("${archive.retention-days:365}") int retentionDays
+    ) {
+        this.archiveJdbcRepository = archiveJdbcRepository;
+        this.userDailyRollupRepository = userDailyRollupRepository;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * 이 날짜보다 이전의 행이 보관 대상입니다.
+     */
+    public LocalDate cutoffDate() {
+        return LocalDate.now().minusDays(retentionDays);
+    }
+
+    /**
+     * 보관 처리된 기간의 일별 히스토리를 조회합니다. 조회 시작일이 보관 기준일 이후라면 보관된 날짜가 있을 수 없으므로 조회하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public List<DailyHistoryResponseDto> getArchivedDailyHistory(
+        Long userId,
+        RollupSource source,
+        String part,
+        LocalDate from,
+        LocalDate to
+    ) {
+        if (from != null && !from.isBefore(cutoffDate())) {
+            return List.of();
+        }
+        return userDailyRollupRepository.findDailyHistory(userId, source, part, from, to);
+    }
+
+    /**
+     * 하루치 랭킹 히스토리를 집계하고 archive 테이블로 옮깁니다. 집계와 이동은 같은 트랜잭션에서 처리되어 하루치 데이터는 원본이나 집계 중 한
+     * 곳에만 존재합니다.
+     */
+    @Transactional
+    public int archiveRankingHistories(LocalDate day) {
+        archiveJdbcRepository.rollupRankingHistories(day);
+        return archiveJdbcRepository.moveToArchive(ArchiveJdbcRepository.RANKING_HISTORY_TABLE,
+            day);
+    }
+
+    /**
+     * 하루치 제출을 집계하고 archive 테이블로 옮깁니다.
+     */
+    @Transactional
+    public int archiveSubmissions(LocalDate day) {
+        archiveJdbcRepository.rollupSubmissions(day);
+        return archiveJdbcRepository.moveToArchive(ArchiveJdbcRepository.SUBMISSION_TABLE, day);
+    }
+}
@@ -0,0 +1,113 @@
+package com.climbx.climbx.archive;
+
+import com.climbx.climbx.archive.repository.PartitionJdbcRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_ranking_histories 의 월별 파티션을 관리합니다.
+ * <p>
+ * 기동 시와 매일 한 번, 다가올 월의 파티션을 미리 만들고 보관 기준일이 지난 파티션을 제거합니다. 만료된 파티션은 보관 처리(집계 후 archive
+ * 테이블로 이동)가 끝나 비어 있을 때만 제거하므로, 보관 처리가 밀려 있으면 다음 실행까지 남겨 둡니다.
+ * <p>
+ * 첫 실행의 파티션 전환은 테이블 전체를 다시 쓰는 ALTER TABLE 이라 끝날 때까지 쓰기가 막힙니다. partition.ranking-history.enabled 는
+ * 인스턴스 하나에서만 켜고, 운영 DB는 트래픽이 적은 시간에 그 인스턴스를 먼저 기동해 전환을 마친 뒤 나머지를 배포합니다. 여러 인스턴스에서
+ * 켜져 있더라도 MySQL named lock 을 잡은 인스턴스 하나만 실행하고 나머지는 건너뜁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "partition.ranking-history.enabled", havingValue = "true")
+public class RankingHistoryPartitionScheduler {
+
+    private static final String TABLE = "user_ranking_histories";
+    private static final String ID_COLUMN = "history_id";
+    private static final String LOCK_NAME = "climbx." + TABLE + ".partition";
+
+    private final PartitionJdbcRepository partitionJdbcRepository;
+    private final ArchiveService archiveService;
+    private final int premakeMonths;
+
+    public RankingHistoryPartitionScheduler(
+        PartitionJdbcRepository partitionJdbcRepository,
+        ArchiveService archiveService,
+        @Value("${partition.ranking-history.premake-months:3}") int premakeMonths
+    ) {
+        this.partitionJdbcRepository = partitionJdbcRepository;
+        this.archiveService = archiveService;
+        this.premakeMonths = premakeMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${partition.ranking-history.cron:0 0 5 * * *}")
+    public void maintain() {
+        boolean ran = partitionJdbcRepository.runWithLock(LOCK_NAME,
+            () -> maintain(YearMonth.now(), archiveService.cutoffDate()));
+        if (!ran) {
+            log.info("다른 인스턴스가 {} 파티션을 관리 중이므로 건너뜁니다", TABLE);
+        }
+    }
+
+    void maintain(YearMonth currentMonth, LocalDate cutoff) {
+        YearMonth lastMonth = currentMonth.plusMonths(premakeMonths);
+        List<String> partitions = partitionJdbcRepository.findPartitionNames(TABLE);
+
+        if (partitions.isEmpty()) {
+            YearMonth oldestMonth = partitionJdbcRepository.findOldestMonth(TABLE);
+            YearMonth firstMonth = oldestMonth == null || oldestMonth.isAfter(currentMonth)
+                ? currentMonth : oldestMonth;
+            partitionJdbcRepository.partitionByMonth(TABLE, ID_COLUMN,
+                monthsBetween(firstMonth, lastMonth));
+            log.info("{} 월별 파티션 전환 완료: {} ~ {}", TABLE, firstMonth, lastMonth);
+            return;
+        }
+
+        List<YearMonth> months = partitions.stream()
+            .map(PartitionJdbcRepository::monthOf)
+            .filter(Objects::nonNull)
+            .toList();
+        YearMonth latestMonth = months.isEmpty() ? currentMonth.minusMonths(1) : months.getLast();
+        if (latestMonth.isBefore(lastMonth)) {
+            partitionJdbcRepository.addMonths(TABLE,
+                monthsBetween(latestMonth.plusMonths(1), lastMonth));
+            log.info("{} 파티션 추가: ~ {}", TABLE, lastMonth);
+        }
+
+        dropExpired(months, cutoff);
+    }
+
+    /**
+     * 월 전체가 보관 기준일 이전인 파티션 중 비어 있는 것을 제거합니다.
+     */
+    private void dropExpired(List<YearMonth> months, LocalDate cutoff) {
+        for (YearMonth month : months) {
+            if (month.plusMonths(1).atDay(1).isAfter(cutoff)) {
+                break;
+            }
+            String partition = PartitionJdbcRepository.partitionName(month);
+            if (!partitionJdbcRepository.isEmpty(TABLE, partition)) {
+                log.info("{} 파티션 {} 은 보관 처리가 끝나지 않아 유지합니다", TABLE, partition);
+                break;
+            }
+            partitionJdbcRepository.dropPartition(TABLE, partition);
+            log.info("{} 만료 파티션 제거: {}", TABLE, partition);
+        }
+    }
+
+    private static List<YearMonth> monthsBetween(YearMonth first, YearMonth last) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = first; !month.isAfter(last); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        return months;
+    }
+}
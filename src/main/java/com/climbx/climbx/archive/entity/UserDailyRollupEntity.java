@@ -0,0 +1,70 @@
+package com.climbx.climbx.archive.entity;
+
+import com.climbx.climbx.archive.enums.RollupSource;
+import com.climbx.climbx.common.entity.BaseTimeEntity;
+import com.climbx.climbx.common.entity.SoftDeleteTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import java.time.LocalDate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.SQLRestriction;
+
+/**
+ * 보관(archive) 처리된 날짜의 사용자별 일별 집계입니다. 원본 행을 archive 테이블로 옮긴 뒤에도 일별 히스토리 조회에 사용합니다.
+ */
+@Entity
+@SQLRestriction(SoftDeleteTimeEntity.NOT_DELETED)
+@Table(
+    name = "user_daily_rollups",
+    uniqueConstraints = {
+        @UniqueConstraint(
+            name = "uk_user_daily_rollups_user_source_part_date",
+            columnNames = {"user_id", "source", "part", "rollup_date"}
+        )
+    }
+)
+@NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
+@AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
+@Getter
+@Accessors(fluent = true)
+@Builder
+public class UserDailyRollupEntity extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id", updatable = false, nullable = false)
+    private Long rollupId;
+
+    @Column(name = "user_id", nullable = false)
+    @NotNull
+    private Long userId; // 사용자 ID
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", length = 20, nullable = false)
+    @NotNull
+    private RollupSource source; // 집계 원본 테이블
+
+    @Column(name = "part", length = 20, nullable = false)
+    @NotNull
+    private String part; // 히스토리 criteria 또는 제출 status
+
+    @Column(name = "rollup_date", nullable = false)
+    @NotNull
+    private LocalDate rollupDate; // 집계 날짜
+
+    @Column(name = "value", nullable = false)
+    @NotNull
+    private Long value; // 집계 값
+}
@@ -0,0 +1,9 @@
+package com.climbx.climbx.archive.enums;
+
+/**
+ * 일별 집계(rollup)의 원본 테이블.
+ */
+public enum RollupSource {
+    RANKING_HISTORY, // user_ranking_histories, part별 value 합계
+    SUBMISSION // submissions, status별 서로 다른 문제 수
+}
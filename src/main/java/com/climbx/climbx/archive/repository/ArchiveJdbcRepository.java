@@ -0,0 +1,99 @@
+package com.climbx.climbx.archive.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 보관(archive) 처리용 native SQL을 실행합니다. 하루 단위로 집계를 남기고 원본 행을 {테이블}_archive 로 옮깁니다.
+ * <p>
+ * 삭제(soft delete)된 행도 함께 옮기며, 집계에는 삭제되지 않은 행만 포함합니다. MySQL 전용 문법을 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArchiveJdbcRepository {
+
+    public static final String RANKING_HISTORY_TABLE = "user_ranking_histories";
+    public static final String SUBMISSION_TABLE = "submissions";
+
+    private static final String ARCHIVE_SUFFIX = "_archive";
+
+    private static final String ROLLUP_RANKING_HISTORIES = """
+        INSERT INTO user_daily_rollups
+               (user_id, source, part, rollup_date, `value`, created_at, updated_at)
+        SELECT * FROM (
+            SELECT h.user_id, 'RANKING_HISTORY' AS source, h.part, ? AS rollup_date,
+                   SUM(h.`value`) AS `value`, NOW() AS created_at, NOW() AS updated_at
+              FROM user_ranking_histories h
+             WHERE h.created_at >= ? AND h.created_at < ?
+               AND h.deleted_at IS NULL
+             GROUP BY h.user_id, h.part
+        ) AS r
+        ON DUPLICATE KEY UPDATE `value` = r.`value`, updated_at = r.updated_at
+        """;
+
+    private static final String ROLLUP_SUBMISSIONS = """
+        INSERT INTO user_daily_rollups
+               (user_id, source, part, rollup_date, `value`, created_at, updated_at)
+        SELECT * FROM (
+            SELECT v.user_id, 'SUBMISSION' AS source, s.status AS part, ? AS rollup_date,
+                   COUNT(DISTINCT s.problem_id) AS `value`, NOW() AS created_at,
+                   NOW() AS updated_at
+              FROM submissions s
+              JOIN videos v ON v.video_id = s.video_id
+             WHERE s.created_at >= ? AND s.created_at < ?
+               AND s.deleted_at IS NULL
+               AND v.deleted_at IS NULL
+             GROUP BY v.user_id, s.status
+        ) AS r
+        ON DUPLICATE KEY UPDATE `value` = r.`value`, updated_at = r.updated_at
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 원본 테이블과 같은 구조(인덱스, 파티션 포함)로 archive 테이블을 만듭니다.
+     */
+    public void createArchiveTables() {
+        for (String table : new String[]{RANKING_HISTORY_TABLE, SUBMISSION_TABLE}) {
+            jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS " + table + ARCHIVE_SUFFIX + " LIKE " + table);
+        }
+    }
+
+    /**
+     * cutoff 이전 행 중 가장 오래된 날짜를 조회합니다. 없으면 null
+     */
+    public LocalDate findOldestDay(String table, LocalDate cutoff) {
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+            "SELECT MIN(created_at) FROM " + table + " WHERE created_at < ?",
+            LocalDateTime.class,
+            cutoff.atStartOfDay()
+        );
+        return oldest == null ? null : oldest.toLocalDate();
+    }
+
+    public int rollupRankingHistories(LocalDate day) {
+        return jdbcTemplate.update(ROLLUP_RANKING_HISTORIES,
+            day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    public int rollupSubmissions(LocalDate day) {
+        return jdbcTemplate.update(ROLLUP_SUBMISSIONS,
+            day, day.atStartOfDay(), day.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * 하루치 행을 archive 테이블로 복사한 뒤 원본에서 삭제하고, 옮긴 행 수를 반환합니다.
+     */
+    public int moveToArchive(String table, LocalDate day) {
+        LocalDateTime from = day.atStartOfDay();
+        LocalDateTime to = day.plusDays(1).atStartOfDay();
+        jdbcTemplate.update("INSERT INTO " + table + ARCHIVE_SUFFIX + " SELECT * FROM " + table
+            + " WHERE created_at >= ? AND created_at < ?", from, to);
+        return jdbcTemplate.update(
+            "DELETE FROM " + table + " WHERE created_at >= ? AND created_at < ?", from, to);
+    }
+}
@@ -0,0 +1,148 @@
+package com.climbx.climbx.archive.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * created_at 기준 월별 RANGE COLUMNS 파티션을 관리하는 MySQL DDL을 실행합니다.
+ * <p>
+ * 파티션 이름은 p{yyyyMM} 형식이며 해당 월의 행을 담습니다. 마지막에는 항상 MAXVALUE 파티션(p_future)을 두어 미리 만들지 못한 월의 행도
+ * 저장되도록 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartitionJdbcRepository {
+
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT =
+        DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public static String partitionName(YearMonth month) {
+        return PARTITION_NAME_FORMAT.format(month);
+    }
+
+    /**
+     * 파티션 이름에 해당하는 월을 반환합니다. p_future 등 월 파티션이 아니면 null
+     */
+    public static YearMonth monthOf(String partitionName) {
+        if (!partitionName.matches("p\\d{6}")) {
+            return null;
+        }
+        return YearMonth.parse(partitionName, PARTITION_NAME_FORMAT);
+    }
+
+    /**
+     * MySQL named lock(GET_LOCK)을 잡은 동안 task 를 실행합니다. 다른 세션이 잠금을 가지고 있으면 기다리지 않고 false 를 반환합니다.
+     * named lock 은 잡은 커넥션에 묶이므로 task 가 끝날 때까지 그 커넥션을 유지하고 같은 커넥션에서 해제합니다.
+     */
+    public boolean runWithLock(String lockName, Runnable task) {
+        Boolean ran = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            if (!namedLock(connection, "SELECT GET_LOCK(?, 0)", lockName)) {
+                return false;
+            }
+            try {
+                task.run();
+                return true;
+            } finally {
+                namedLock(connection, "SELECT RELEASE_LOCK(?)", lockName);
+            }
+        });
+        return Boolean.TRUE.equals(ran);
+    }
+
+    private static boolean namedLock(Connection connection, String sql, String lockName)
+        throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, lockName);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    /**
+     * 파티션 이름을 정의 순서대로 조회합니다. 파티셔닝되지 않은 테이블이면 빈 목록
+     */
+    public List<String> findPartitionNames(String table) {
+        return jdbcTemplate.queryForList("""
+            SELECT PARTITION_NAME
+              FROM information_schema.PARTITIONS
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = ?
+               AND PARTITION_NAME IS NOT NULL
+             ORDER BY PARTITION_ORDINAL_POSITION
+            """, String.class, table);
+    }
+
+    /**
+     * 가장 오래된 행의 월을 조회합니다. 행이 없으면 null
+     */
+    public YearMonth findOldestMonth(String table) {
+        LocalDateTime oldest = jdbcTemplate.queryForObject(
+            "SELECT MIN(created_at) FROM " + table, LocalDateTime.class);
+        return oldest == null ? null : YearMonth.from(oldest);
+    }
+
+    /**
+     * 파티셔닝되지 않은 테이블을 월별 파티션으로 전환합니다. MySQL은 파티션 키가 모든 unique key에 포함되어야 하고 외래 키를 허용하지 않으므로,
+     * 외래 키를 제거하고 기본 키를 (id, created_at)으로 바꿉니다.
+     */
+    public void partitionByMonth(String table, String idColumn, List<YearMonth> months) {
+        List<String> foreignKeys = jdbcTemplate.queryForList("""
+            SELECT CONSTRAINT_NAME
+              FROM information_schema.REFERENTIAL_CONSTRAINTS
+             WHERE CONSTRAINT_SCHEMA = DATABASE()
+               AND TABLE_NAME = ?
+            """, String.class, table);
+        for (String foreignKey : foreignKeys) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP FOREIGN KEY " + foreignKey);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + table
+            + " DROP PRIMARY KEY, ADD PRIMARY KEY (" + idColumn + ", created_at)");
+        jdbcTemplate.execute("ALTER TABLE " + table
+            + " PARTITION BY RANGE COLUMNS (created_at) (" + partitionDefinitions(months) + ")");
+    }
+
+    /**
+     * p_future 를 나누어 월 파티션을 추가합니다. 추가하는 월은 기존 월 파티션보다 뒤여야 합니다.
+     */
+    public void addMonths(String table, List<YearMonth> months) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + FUTURE_PARTITION
+            + " INTO (" + partitionDefinitions(months) + ")");
+    }
+
+    public boolean isEmpty(String table, String partition) {
+        Integer exists = jdbcTemplate.queryForObject(
+            "SELECT EXISTS (SELECT 1 FROM " + table + " PARTITION (" + partition + "))",
+            Integer.class);
+        return exists == null || exists == 0;
+    }
+
+    public void dropPartition(String table, String partition) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition);
+    }
+
+    private static String partitionDefinitions(List<YearMonth> months) {
+        String monthly = months.stream()
+            .map(month -> "PARTITION " + partitionName(month)
+                + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')")
+            .collect(Collectors.joining(", "));
+        String future = "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)";
+        return monthly.isEmpty() ? future : monthly + ", " + future;
+    }
+}
@@ -0,0 +1,37 @@
+package com.climbx.climbx.archive.repository;
+
+import com.climbx.climbx.archive.entity.UserDailyRollupEntity;
+import com.climbx.climbx.archive.enums.RollupSource;
+import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserDailyRollupRepository extends JpaRepository<UserDailyRollupEntity, Long> {
+
+    /**
+     * 보관 처리된 기간의 일별 집계를 조회합니다. from, to가 null이면 모든 기간
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.user.dto.DailyHistoryResponseDto(
+            r.rollupDate,
+            r.value
+        )
+          FROM UserDailyRollupEntity r
+         WHERE r.userId = :userId
+           AND r.source = :source
+           AND r.part = :part
+           AND (:from IS NULL OR r.rollupDate >= :from)
+           AND (:to IS NULL OR r.rollupDate <= :to)
+         ORDER BY r.rollupDate ASC
+        """)
+    List<DailyHistoryResponseDto> findDailyHistory(
+        @Param("userId") Long userId,
+        @Param("source") RollupSource source,
+        @Param("part") String part,
+        @Param("from") LocalDate from,
+        @Param("to") LocalDate to
+    );
+}
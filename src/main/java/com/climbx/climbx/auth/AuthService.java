@@ -8,12 +8,13 @@ import com.climbx.climbx.auth.dto.ValidatedTokenInfoDto;
 import com.climbx.climbx.auth.entity.UserAuthEntity;
 import com.climbx.climbx.auth.enums.OAuth2ProviderType;
 import com.climbx.climbx.auth.exception.UserAuthNotFoundException;
+import com.climbx.climbx.auth.exception.WithdrawnUserException;
 import com.climbx.climbx.auth.provider.ProviderIdTokenService;
 import com.climbx.climbx.auth.provider.exception.ProviderNotSupportedException;
 import com.climbx.climbx.auth.repository.UserAuthRepository;
 import com.climbx.climbx.auth.service.NonceService;
 import com.climbx.climbx.auth.service.RefreshTokenBlacklistService;
-import com.climbx.climbx.common.comcode.ComcodeService;
+import com.climbx.climbx.common.comcode.enums.ComcodeType;
 import com.climbx.climbx.common.security.JwtContext;
 import com.climbx.climbx.common.security.dto.JwtTokenInfo;
 import com.climbx.climbx.common.security.exception.InvalidTokenException;
@@ -35,7 +36,6 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AuthService {
 
-    private final ComcodeService comcodeService;
     private final JwtContext jwtContext;
     private final UserAccountRepository userAccountRepository;
     private final UserAuthRepository userAuthsRepository;
@@ -100,9 +100,8 @@ public class AuthService {
             JwtTokenInfo tokenInfo = jwtContext.parseToken(refreshToken);
 
             // 3. REFRESH 토큰인지 확인
-            String refreshTokenType = comcodeService.getCodeValue("REFRESH");
-            if (!refreshTokenType.equals(tokenInfo.tokenType().toUpperCase())) {
-                log.debug("Invalid token type: expected={}, actual={}", refreshTokenType,
+            if (!ComcodeType.REFRESH.code().equals(tokenInfo.tokenType().toUpperCase())) {
+                log.debug("Invalid token type: expected={}, actual={}", ComcodeType.REFRESH.code(),
                     tokenInfo.tokenType());
                 throw new InvalidTokenException();
             }
@@ -162,19 +161,25 @@ public class AuthService {
         ValidatedTokenInfoDto tokenInfo,
         OAuth2ProviderType providerType
     ) {
-        // 기존 인증 정보 확인
+        // 기존 인증 정보 확인 (사용자 계정까지 fetch join으로 한 번에 조회)
         Optional<UserAuthEntity> existingUserAuth = userAuthsRepository
-            .findByProviderAndProviderId(providerType, tokenInfo.providerId());
+            .findWithUserAccountByProviderAndProviderId(providerType, tokenInfo.providerId());
 
         if (existingUserAuth.isPresent()) {
             // 기존 사용자 정보 업데이트
             UserAccountEntity user = existingUserAuth.get().userAccountEntity();
             log.info("기존 사용자 로그인: userId={}, providerId={}", user.userId(), tokenInfo.providerId());
             return user;
-        } else {
-            // 새로운 사용자 생성
-            return createNewUser(tokenInfo, providerType);
         }
+
+        // 탈퇴한 계정의 인증 정보는 조회되지 않지만 유니크 제약에는 남아 있으므로 새로 가입시키지 않음
+        if (userAuthsRepository.countIncludingDeletedByProviderAndProviderId(
+            providerType.name(), tokenInfo.providerId()) > 0) {
+            throw new WithdrawnUserException(providerType.name(), tokenInfo.providerId());
+        }
+
+        // 새로운 사용자 생성
+        return createNewUser(tokenInfo, providerType);
     }
 
     /**
@@ -191,7 +196,7 @@ public class AuthService {
         // 사용자 계정 생성
         UserAccountEntity userAccount = UserAccountEntity.builder()
             .nickname(temporaryNickname)
-            .role(comcodeService.getCodeValue("USER"))
+            .role(ComcodeType.USER.code())
             .email(tokenInfo.email())
             .profileImageUrl(tokenInfo.profileImageUrl())
             .build();
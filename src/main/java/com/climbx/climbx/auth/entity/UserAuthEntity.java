@@ -2,6 +2,7 @@ package com.climbx.climbx.auth.entity;
 
 import com.climbx.climbx.auth.enums.OAuth2ProviderType;
 import com.climbx.climbx.common.entity.BaseTimeEntity;
+import com.climbx.climbx.common.entity.SoftDeleteTimeEntity;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -24,8 +25,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@SQLRestriction(SoftDeleteTimeEntity.NOT_DELETED)
 @Table(
     name = "user_auths",
     uniqueConstraints = {
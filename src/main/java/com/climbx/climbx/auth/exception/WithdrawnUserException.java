@@ -0,0 +1,13 @@
+package com.climbx.climbx.auth.exception;
+
+import com.climbx.climbx.common.error.BusinessException;
+import com.climbx.climbx.common.error.ErrorCode;
+
+public class WithdrawnUserException extends BusinessException {
+
+    public WithdrawnUserException(String provider, String providerId) {
+        super(ErrorCode.WITHDRAWN_USER);
+        addContext("provider", provider);
+        addContext("providerId", providerId);
+    }
+}
@@ -0,0 +1,89 @@
+package com.climbx.climbx.auth.provider.jwks;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * OIDC Provider별 JWKS를 관리합니다.
+ * <p>
+ * 등록 시점(애플리케이션 기동 중)에 JWKS를 미리 받아오고, 이후에는 스케줄러가 백그라운드에서 주기적으로 갱신합니다. 로그인 요청은 메모리에 있는 키
+ * 목록만 사용하므로 ID Token 검증 중 JWKS HTTP 요청이 발생하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ProviderJwksManager {
+
+    private final RestTemplate restTemplate;
+    private final Duration missRefreshCooldown;
+    private final Map<String, RefreshableJwkSource> jwkSources = new ConcurrentHashMap<>();
+
+    public ProviderJwksManager(
+        RestTemplate restTemplate,
+        @Value("${auth.jwks.miss-refresh-cooldown:PT30S}") Duration missRefreshCooldown
+    ) {
+        this.restTemplate = restTemplate;
+        this.missRefreshCooldown = missRefreshCooldown;
+    }
+
+    /**
+     * Provider의 JWKS를 등록하고 즉시 받아온 뒤, 해당 키 목록으로 서명을 검증하는 JwtDecoder를 생성합니다. 반환된 decoder에 issuer,
+     * audience 등 클레임 검증기는 호출하는 쪽에서 설정합니다.
+     */
+    public NimbusJwtDecoder createDecoder(String provider, String jwksUri, JWSAlgorithm algorithm) {
+        RefreshableJwkSource jwkSource = new RefreshableJwkSource(
+            jwksUri,
+            restTemplate,
+            missRefreshCooldown
+        );
+        jwkSources.put(provider, jwkSource);
+
+        if (jwkSource.refresh()) {
+            log.info("{} JWKS prefetch 완료: keys={}", provider, jwkSource.getKeyCount());
+        } else {
+            log.warn("{} JWKS prefetch 실패, 백그라운드 갱신 시 재시도합니다", provider);
+        }
+
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithm, jwkSource));
+        // 클레임 검증은 Spring의 OAuth2TokenValidator가 담당
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        return new NimbusJwtDecoder(jwtProcessor);
+    }
+
+    /**
+     * 등록된 모든 Provider의 JWKS를 백그라운드에서 갱신합니다. 갱신 주기는 Provider의 키 교체 주기보다 짧게 설정합니다.
+     */
+    @Scheduled(
+        fixedDelayString = "${auth.jwks.refresh-interval:PT10M}",
+        initialDelayString = "${auth.jwks.refresh-interval:PT10M}"
+    )
+    public void refreshAll() {
+        jwkSources.forEach((provider, jwkSource) -> {
+            if (!jwkSource.refresh()) {
+                log.warn("{} JWKS 백그라운드 갱신 실패", provider);
+            }
+        });
+    }
+
+    /**
+     * Provider별 보관 중인 키 수를 반환합니다. (모니터링용)
+     */
+    public Map<String, Integer> getKeyCounts() {
+        Map<String, Integer> keyCounts = new ConcurrentHashMap<>();
+        jwkSources.forEach((provider, jwkSource) -> keyCounts.put(provider, jwkSource.getKeyCount()));
+        return keyCounts;
+    }
+}
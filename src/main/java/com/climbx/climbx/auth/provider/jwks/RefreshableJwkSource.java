@@ -0,0 +1,101 @@
+package com.climbx.climbx.auth.provider.jwks;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 메모리에 보관한 JWK Set으로 키를 조회하는 JWKSource. 키 조회 시 HTTP 요청을 하지 않으며, JWK Set은
+ * {@link #refresh()}로 받아와 원자적으로 교체합니다.
+ * <p>
+ * 알 수 없는 kid(키 교체 직후)를 만나면 cooldown 간격으로 한 번만 즉시 갱신을 시도합니다.
+ */
+@Slf4j
+public class RefreshableJwkSource implements JWKSource<SecurityContext> {
+
+    private final String jwksUri;
+    private final RestTemplate restTemplate;
+    private final Duration missRefreshCooldown;
+
+    private final AtomicReference<JWKSet> jwkSet = new AtomicReference<>(new JWKSet());
+    private final ReentrantLock missRefreshLock = new ReentrantLock();
+    private volatile Instant lastRefreshAttempt = Instant.EPOCH;
+
+    public RefreshableJwkSource(
+        String jwksUri,
+        RestTemplate restTemplate,
+        Duration missRefreshCooldown
+    ) {
+        this.jwksUri = jwksUri;
+        this.restTemplate = restTemplate;
+        this.missRefreshCooldown = missRefreshCooldown;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        List<JWK> keys = jwkSelector.select(jwkSet.get());
+        if (!keys.isEmpty()) {
+            return keys;
+        }
+
+        // 키 교체 등으로 일치하는 키가 없을 때만 즉시 갱신 (동시 요청은 한 번만 갱신)
+        missRefreshLock.lock();
+        try {
+            keys = jwkSelector.select(jwkSet.get());
+            if (keys.isEmpty() && isMissRefreshAllowed()) {
+                log.info("일치하는 JWK가 없어 JWKS를 즉시 갱신합니다: {}", jwksUri);
+                refresh();
+                keys = jwkSelector.select(jwkSet.get());
+            }
+            return keys;
+        } finally {
+            missRefreshLock.unlock();
+        }
+    }
+
+    /**
+     * JWKS를 받아와 현재 키 목록을 교체합니다. 실패 시 기존 키 목록을 유지합니다.
+     *
+     * @return 갱신 성공 여부
+     */
+    public boolean refresh() {
+        lastRefreshAttempt = Instant.now();
+        try {
+            String body = restTemplate.getForObject(jwksUri, String.class);
+            if (body == null) {
+                log.warn("JWKS 응답이 비어 있습니다: {}", jwksUri);
+                return false;
+            }
+
+            JWKSet fetched = JWKSet.parse(body);
+            jwkSet.set(fetched);
+            log.debug("JWKS 갱신 완료: uri={}, keys={}", jwksUri, fetched.getKeys().size());
+            return true;
+        } catch (RestClientException | ParseException e) {
+            log.warn("JWKS 갱신 실패, 기존 키 유지: uri={}, reason={}", jwksUri, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 현재 보관 중인 키 수를 반환합니다. (모니터링용)
+     */
+    public int getKeyCount() {
+        return jwkSet.get().getKeys().size();
+    }
+
+    private boolean isMissRefreshAllowed() {
+        return !Instant.now().isBefore(lastRefreshAttempt.plus(missRefreshCooldown));
+    }
+}
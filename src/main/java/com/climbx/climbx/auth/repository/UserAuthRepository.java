@@ -5,15 +5,42 @@ import com.climbx.climbx.auth.enums.OAuth2ProviderType;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserAuthRepository extends JpaRepository<UserAuthEntity, Long> {
 
     /**
-     * OAuth2 제공자와 제공자 ID로 사용자 인증 정보를 조회합니다.
+     * OAuth2 제공자와 제공자 ID로 사용자 인증 정보를 조회합니다. 로그인 시 바로 사용하는 사용자 계정을 한 번의 쿼리로 함께 조회합니다.
      */
-    Optional<UserAuthEntity> findByProviderAndProviderId(
-        OAuth2ProviderType oauthProvider,
-        String oauthProviderId
+    @Query("""
+        SELECT ua
+          FROM UserAuthEntity ua
+          JOIN FETCH ua.userAccountEntity
+         WHERE ua.provider = :provider
+           AND ua.providerId = :providerId
+        """)
+    Optional<UserAuthEntity> findWithUserAccountByProviderAndProviderId(
+        @Param("provider") OAuth2ProviderType oauthProvider,
+        @Param("providerId") String oauthProviderId
+    );
+
+    /**
+     * 탈퇴(soft delete)한 계정까지 포함해 제공자와 제공자 ID의 인증 정보 수를 셉니다. uk_user_auths_provider_id 는 삭제된 행에도
+     * 걸려 있으므로 신규 가입 전에 이 값으로 중복 여부를 확인합니다. @SQLRestriction 을 피하기 위해 native 쿼리를 사용합니다.
+     */
+    @Query(
+        value = """
+            SELECT COUNT(*)
+              FROM user_auths
+             WHERE provider = :provider
+               AND provider_id = :providerId
+            """,
+        nativeQuery = true
+    )
+    long countIncludingDeletedByProviderAndProviderId(
+        @Param("provider") String oauthProvider,
+        @Param("providerId") String oauthProviderId
     );
 
     /**
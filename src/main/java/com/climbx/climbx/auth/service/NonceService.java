@@ -3,6 +3,12 @@ package com.climbx.climbx.auth.service;
 import com.climbx.climbx.auth.enums.OAuth2ProviderType;
 import com.climbx.climbx.auth.provider.exception.InvalidNonceException;
 import com.github.benmanes.caffeine.cache.Cache;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -12,29 +18,39 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class NonceService {
 
+    // SHA-256 앞 128bit만 사용 (Base64URL 22자)
+    private static final int NONCE_HASH_BYTES = 16;
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
     private final Cache<String, Boolean> usedNonces;
 
     /**
      * Nonce를 검증하고 일회성 사용을 보장합니다.
+     * <p>
+     * 캐시에는 원본 nonce 대신 고정 길이 해시를 저장하며, Cache.get(key, mappingFunction)으로 확인과 등록을 한 번에 처리하므로 동시에 같은
+     * nonce가 들어와도 하나의 요청만 등록 함수를 실행하고 통과합니다. asMap() 연산과 달리 캐시 통계에 기록되므로 miss는 새 nonce, hit는 재사용
+     * 시도로 집계됩니다.
      *
      * @param nonce 검증할 nonce
-     * @throws IllegalArgumentException nonce가 null이거나 빈 문자열인 경우
-     * @throws InvalidNonceException    이미 사용된 nonce인 경우
+     * @throws InvalidNonceException nonce가 null이거나 빈 문자열인 경우, 이미 사용된 nonce인 경우
      */
     public void validateAndUseNonce(String nonce) {
         if (nonce == null || nonce.trim().isEmpty()) {
             throw new InvalidNonceException(OAuth2ProviderType.KAKAO);
         }
 
-        // 이미 사용된 nonce인지 확인
-        if (usedNonces.getIfPresent(nonce) != null) {
-            log.warn("이미 사용된 nonce 감지: {}", nonce);
+        String nonceHash = hash(nonce);
+        AtomicBoolean registered = new AtomicBoolean();
+        usedNonces.get(nonceHash, key -> {
+            registered.set(true);
+            return Boolean.TRUE;
+        });
+        if (!registered.get()) {
+            log.warn("이미 사용된 nonce 감지: {}", nonceHash);
             throw new InvalidNonceException(OAuth2ProviderType.KAKAO); // 기본값 사용
         }
 
-        // 사용된 nonce로 등록
-        usedNonces.put(nonce, true);
-        log.debug("Nonce 사용 등록: {}", nonce);
+        log.debug("Nonce 사용 등록: {}", nonceHash);
     }
 
     /**
@@ -44,10 +60,14 @@ public class NonceService {
         return usedNonces.estimatedSize();
     }
 
-    /**
-     * 캐시 통계를 반환합니다. (모니터링용)
-     */
-    public String getCacheStats() {
-        return usedNonces.stats().toString();
+    static String hash(String nonce) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(nonce.getBytes(StandardCharsets.UTF_8));
+            return BASE64_URL.encodeToString(Arrays.copyOf(digest, NONCE_HASH_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM 구현이 지원해야 하는 알고리즘
+            throw new IllegalStateException(e);
+        }
     }
-} 
\ No newline at end of file
+}
@@ -53,11 +53,4 @@ public class RefreshTokenBlacklistService {
     public long getBlacklistSize() {
         return refreshTokenBlacklist.estimatedSize();
     }
-
-    /**
-     * 블랙리스트 캐시 통계를 반환합니다. (모니터링용)
-     */
-    public String getCacheStats() {
-        return refreshTokenBlacklist.stats().toString();
-    }
 } 
\ No newline at end of file
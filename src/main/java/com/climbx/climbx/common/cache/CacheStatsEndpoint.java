@@ -0,0 +1,38 @@
+package com.climbx.climbx.common.cache;
+
+import com.climbx.climbx.common.cache.dto.CacheStatsResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.util.Map;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 Caffeine 캐시의 통계를 /actuator/cachestats 에서 한 번에 조회합니다.
+ * <p>
+ * 캐시는 CacheConfig에 빈으로 등록하면 자동으로 포함되며, 같은 캐시가 Micrometer(cache.* 메트릭)에도 등록되어 /actuator/prometheus로
+ * 수집됩니다. 이 엔드포인트는 누적 통계 스냅샷으로 캐시 크기/TTL 조정 시 참고용입니다.
+ */
+@Component
+@Endpoint(id = "cachestats")
+@RequiredArgsConstructor
+public class CacheStatsEndpoint {
+
+    private final Map<String, Cache<?, ?>> caches;
+
+    @ReadOperation
+    public Map<String, CacheStatsResponseDto> cacheStats() {
+        Map<String, CacheStatsResponseDto> stats = new TreeMap<>();
+        caches.forEach((name, cache) -> stats.put(name, CacheStatsResponseDto.from(cache)));
+        return stats;
+    }
+
+    @ReadOperation
+    public CacheStatsResponseDto cacheStats(@Selector String name) {
+        Cache<?, ?> cache = caches.get(name);
+        return cache != null ? CacheStatsResponseDto.from(cache) : null;
+    }
+}
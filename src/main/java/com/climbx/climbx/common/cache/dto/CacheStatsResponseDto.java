@@ -0,0 +1,30 @@
+package com.climbx.climbx.common.cache.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+
+@Builder
+public record CacheStatsResponseDto(
+
+    long estimatedSize,
+    long requestCount,
+    double hitRatio,
+    long evictionCount,
+    long loadCount,
+    double averageLoadPenaltyMs
+) {
+
+    public static CacheStatsResponseDto from(Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+        return CacheStatsResponseDto.builder()
+            .estimatedSize(cache.estimatedSize())
+            .requestCount(stats.requestCount())
+            .hitRatio(stats.hitRate())
+            .evictionCount(stats.evictionCount())
+            .loadCount(stats.loadCount())
+            .averageLoadPenaltyMs(stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1))
+            .build();
+    }
+}
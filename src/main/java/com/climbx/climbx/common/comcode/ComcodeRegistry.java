@@ -0,0 +1,94 @@
+package com.climbx.climbx.common.comcode;
+
+import com.climbx.climbx.common.comcode.dto.ComcodeDto;
+import com.climbx.climbx.common.comcode.dto.ComcodeVersion;
+import com.climbx.climbx.common.comcode.entity.ComcodeEntity;
+import com.climbx.climbx.common.entity.BaseTimeEntity;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 특정 시점의 comcodes 전체를 담은 불변 스냅샷. code -> DTO, group -> sortOrder 순 목록 인덱스를 미리 만들어 두므로 조회 시 추가
+ * 할당이 없습니다. 갱신은 새 스냅샷을 만들어 통째로 교체합니다.
+ */
+final class ComcodeRegistry {
+
+    static final ComcodeRegistry EMPTY = new ComcodeRegistry(
+        Map.of(),
+        Map.of(),
+        new ComcodeVersion(0L, null)
+    );
+
+    private final Map<String, ComcodeDto> codes;
+    private final Map<String, List<ComcodeDto>> codesByGroup;
+    private final ComcodeVersion version;
+
+    private ComcodeRegistry(
+        Map<String, ComcodeDto> codes,
+        Map<String, List<ComcodeDto>> codesByGroup,
+        ComcodeVersion version
+    ) {
+        this.codes = codes;
+        this.codesByGroup = codesByGroup;
+        this.version = version;
+    }
+
+    static ComcodeRegistry from(List<ComcodeEntity> entities) {
+        Map<String, ComcodeDto> codes = entities.stream()
+            .collect(Collectors.toUnmodifiableMap(
+                ComcodeEntity::code,
+                ComcodeDto::from,
+                (first, second) -> first
+            ));
+
+        Map<String, List<ComcodeDto>> codesByGroup = codes.values()
+            .stream()
+            .sorted(Comparator.comparing(ComcodeDto::sortOrder))
+            .collect(Collectors.groupingBy(
+                ComcodeDto::codeGroup,
+                Collectors.toUnmodifiableList()
+            ));
+
+        LocalDateTime lastUpdatedAt = entities.stream()
+            .map(BaseTimeEntity::getUpdatedAt)
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder())
+            .orElse(null);
+
+        return new ComcodeRegistry(
+            codes,
+            Map.copyOf(codesByGroup),
+            new ComcodeVersion((long) entities.size(), lastUpdatedAt)
+        );
+    }
+
+    /**
+     * 코드를 조회합니다. 대소문자가 다른 경우 대문자로 한 번 더 조회합니다.
+     *
+     * @return 없으면 null
+     */
+    ComcodeDto find(String code) {
+        ComcodeDto dto = codes.get(code);
+        if (dto != null) {
+            return dto;
+        }
+        String upperCode = code.toUpperCase();
+        return upperCode.equals(code) ? null : codes.get(upperCode);
+    }
+
+    List<ComcodeDto> findByGroup(String groupCode) {
+        return codesByGroup.getOrDefault(groupCode.toUpperCase(), List.of());
+    }
+
+    Map<String, ComcodeDto> codes() {
+        return codes;
+    }
+
+    ComcodeVersion version() {
+        return version;
+    }
+}
@@ -1,28 +1,83 @@
 package com.climbx.climbx.common.comcode;
 
 import com.climbx.climbx.common.comcode.dto.ComcodeDto;
+import com.climbx.climbx.common.comcode.dto.ComcodeVersion;
 import com.climbx.climbx.common.comcode.entity.ComcodeEntity;
 import com.climbx.climbx.common.comcode.exception.ComcodeNotFound;
 import com.climbx.climbx.common.comcode.repository.ComcodeRepository;
-import com.climbx.climbx.common.util.OptionalUtils;
+import com.github.benmanes.caffeine.cache.Cache;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
-import org.springframework.boot.context.event.ApplicationReadyEvent;
-import org.springframework.context.event.EventListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
-public class ComcodeService {
+public class ComcodeService implements SmartInitializingSingleton {
 
     private final ComcodeRepository comcodeRepository;
-    private Map<String, ComcodeDto> comcodes;
 
-    @EventListener(ApplicationReadyEvent.class)
+    // 조회는 항상 하나의 불변 스냅샷을 기준으로 하고, 갱신 시 통째로 교체 (volatile로 안전하게 공개)
+    private volatile ComcodeRegistry registry = ComcodeRegistry.EMPTY;
+
+    // DB에도 없는 코드 (요청 파라미터 등으로 들어온 잘못된 코드가 매번 DB 조회로 이어지지 않도록)
+    private final Cache<String, Boolean> missingCodes;
+
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public ComcodeService(
+        ComcodeRepository comcodeRepository,
+        Cache<String, Boolean> missingComcodes
+    ) {
+        this.comcodeRepository = comcodeRepository;
+        this.missingCodes = missingComcodes;
+    }
+
+    /**
+     * 모든 싱글톤 생성 후(Flyway 마이그레이션과 공통 코드 시드 적용 이후), 웹 서버가 요청을 받기 전에 스냅샷을 로드합니다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        init();
+    }
+
     public void init() {
-        this.comcodes = getCodes();
+        reload();
+    }
+
+    /**
+     * comcodes 테이블 전체를 다시 읽어 스냅샷을 교체합니다.
+     */
+    public void reload() {
+        // DB 조회 중 virtual thread가 carrier에 고정(pinning)되지 않도록 synchronized 대신 Lock 사용
+        reloadLock.lock();
+        try {
+            ComcodeRegistry reloaded = ComcodeRegistry.from(comcodeRepository.findAll());
+            registry = reloaded;
+            missingCodes.invalidateAll();
+            log.info("Comcode 스냅샷 갱신: codes={}, version={}", reloaded.codes().size(),
+                reloaded.version());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * comcodes 테이블의 버전(행 수, 마지막 수정 시각)이 바뀐 경우에만 스냅샷을 갱신합니다. 코드 변경 시 재시작 없이 반영됩니다.
+     */
+    @Scheduled(
+        fixedDelayString = "${comcode.reload-check-interval:PT1M}",
+        initialDelayString = "${comcode.reload-check-interval:PT1M}"
+    )
+    public void reloadIfChanged() {
+        ComcodeVersion latest = comcodeRepository.findVersion();
+        if (!latest.equals(registry.version())) {
+            reload();
+        }
     }
 
     public Map<String, ComcodeDto> getCodes() {
@@ -34,30 +89,54 @@ public class ComcodeService {
             ));
     }
 
+    /**
+     * 그룹에 속한 코드를 sortOrder 순으로 반환합니다. 없는 그룹이면 빈 리스트를 반환합니다.
+     */
     public List<ComcodeDto> getCodesByGroup(String groupCode) {
-        return OptionalUtils.tryOf(
-            () -> comcodes.values()
-                .stream()
-                .filter(code -> code.codeGroup().equals(groupCode.toUpperCase()))
-                .toList()
-        ).orElse(List.of());
+        if (groupCode == null || groupCode.isEmpty()) {
+            return List.of();
+        }
+        return registry.findByGroup(groupCode);
     }
 
     /**
      * 특정 코드에 대한 DTO를 반환합니다. 존재 하지 않는 코드에 대해서 exception
      */
     public ComcodeDto getCodeDto(String code) {
-        return OptionalUtils.tryOf(
-            () -> comcodes.computeIfAbsent(
-                code,
-                c -> comcodeRepository.findByCode(c.toUpperCase())
-                    .map(ComcodeDto::from)
-                    .orElseThrow(() -> new ComcodeNotFound(c))
-            )
-        ).orElseThrow(() -> new ComcodeNotFound(code));
+        if (code == null || code.isEmpty()) {
+            throw new ComcodeNotFound(code);
+        }
+
+        ComcodeDto dto = registry.find(code);
+        if (dto != null) {
+            return dto;
+        }
+        return findMissingCode(code);
     }
 
     public String getCodeValue(String code) {
         return getCodeDto(code).code();
     }
+
+    /**
+     * 스냅샷에 없는 코드는 스냅샷 이후 추가되었을 수 있으므로 DB를 한 번 확인합니다. DB에 있으면 스냅샷을 갱신하고, 없으면 negative cache에
+     * 기록해 같은 코드로는 DB를 다시 조회하지 않습니다.
+     */
+    private ComcodeDto findMissingCode(String code) {
+        String upperCode = code.toUpperCase();
+        if (missingCodes.getIfPresent(upperCode) != null) {
+            throw new ComcodeNotFound(code);
+        }
+
+        if (comcodeRepository.findByCode(upperCode).isPresent()) {
+            reload();
+            ComcodeDto dto = registry.find(upperCode);
+            if (dto != null) {
+                return dto;
+            }
+        }
+
+        missingCodes.put(upperCode, Boolean.TRUE);
+        throw new ComcodeNotFound(code);
+    }
 }
@@ -0,0 +1,45 @@
+package com.climbx.climbx.common.comcode;
+
+import com.climbx.climbx.common.comcode.dto.ComcodeDto;
+import com.climbx.climbx.common.comcode.enums.ComcodeType;
+import com.climbx.climbx.common.comcode.exception.ComcodeNotFound;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ComcodeType}이 comcodes 테이블과 일치하는지 기동 시 검증합니다. 누락되거나 그룹이 다른 코드가 있으면 애플리케이션 기동을
+ * 중단합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ComcodeTypeValidator {
+
+    private final ComcodeService comcodeService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validate() {
+        List<String> mismatches = new ArrayList<>();
+        for (ComcodeType type : ComcodeType.values()) {
+            try {
+                ComcodeDto dto = comcodeService.getCodeDto(type.code());
+                if (!type.groupCode().equals(dto.codeGroup())) {
+                    mismatches.add(type.code() + " (group: expected=" + type.groupCode()
+                        + ", actual=" + dto.codeGroup() + ")");
+                }
+            } catch (ComcodeNotFound e) {
+                mismatches.add(type.code() + " (missing)");
+            }
+        }
+
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("comcodes 테이블과 ComcodeType이 일치하지 않습니다: " + mismatches);
+        }
+        log.info("ComcodeType 검증 완료: {}개", ComcodeType.values().length);
+    }
+}
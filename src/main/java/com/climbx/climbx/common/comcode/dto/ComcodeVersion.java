@@ -0,0 +1,13 @@
+package com.climbx.climbx.common.comcode.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * comcodes 테이블의 변경 여부를 판단하기 위한 버전 정보. 행 수와 마지막 수정 시각 중 하나라도 달라지면 변경된 것으로 봅니다.
+ */
+public record ComcodeVersion(
+    Long count,
+    LocalDateTime lastUpdatedAt
+) {
+
+}
@@ -0,0 +1,25 @@
+package com.climbx.climbx.common.comcode.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * 코드에서 직접 참조하는 공통 코드. 이름이 comcodes.code 값과 같으며, 기동 시 comcodes 테이블에 해당 그룹으로 존재하는지 검증합니다.
+ */
+@Getter
+@Accessors(fluent = true)
+@RequiredArgsConstructor
+public enum ComcodeType {
+    ACCESS("TOKEN_TYPE"),
+    REFRESH("TOKEN_TYPE"),
+    USER("USER_ROLE"),
+    ADMIN("USER_ROLE"),
+    ACCEPTED("STATUS");
+
+    private final String groupCode;
+
+    public String code() {
+        return name();
+    }
+}
@@ -1,9 +1,11 @@
 package com.climbx.climbx.common.comcode.repository;
 
+import com.climbx.climbx.common.comcode.dto.ComcodeVersion;
 import com.climbx.climbx.common.comcode.entity.ComcodeEntity;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ComcodeRepository extends JpaRepository<ComcodeEntity, Long> {
 
@@ -12,4 +14,16 @@ public interface ComcodeRepository extends JpaRepository<ComcodeEntity, Long> {
     Optional<ComcodeEntity> findByGroupCodeAndCode(String groupCode, String code);
 
     Optional<ComcodeEntity> findByCode(String code);
-}
\ No newline at end of file
+
+    /**
+     * 전체 코드를 다시 읽지 않고 변경 여부만 확인하기 위한 버전 정보를 조회합니다.
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.common.comcode.dto.ComcodeVersion(
+            COUNT(c),
+            MAX(c.updatedAt)
+        )
+          FROM ComcodeEntity c
+        """)
+    ComcodeVersion findVersion();
+}
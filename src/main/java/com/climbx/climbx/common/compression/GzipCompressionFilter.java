@@ -0,0 +1,95 @@
+package com.climbx.climbx.common.compression;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * 설정한 MIME 타입의 응답을 gzip으로 압축합니다.
+ * <p>
+ * Tomcat 10.1의 server.compression 은 strong ETag가 있는 응답을 압축하지 않으므로, ETag를 붙이는 카탈로그 응답도 압축되도록 필터에서
+ * 처리합니다. 응답을 모두 모으지 않고 min-response-size 만큼만 버퍼링한 뒤 압축 여부를 정하므로, 큰 응답도 스트리밍으로 전송됩니다.
+ * 압축한 응답에는 Vary: Accept-Encoding 을 붙여 캐시가 인코딩별로 구분하도록 합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class GzipCompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private final boolean enabled;
+    private final int minResponseSize;
+    private final List<String> mimeTypes;
+
+    public GzipCompressionFilter(
+        @Value("${http.compression.enabled:true}") boolean enabled,
+        @Value("${http.compression.min-response-size:2KB}") DataSize minResponseSize,
+        @Value("${http.compression.mime-types:application/json}") String[] mimeTypes
+    ) {
+        this.enabled = enabled;
+        this.minResponseSize = (int) minResponseSize.toBytes();
+        this.mimeTypes = Arrays.asList(mimeTypes);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled
+            || HttpMethod.HEAD.matches(request.getMethod())
+            || !acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+    }
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        GzipResponseWrapper wrapper = new GzipResponseWrapper(response, minResponseSize,
+            this::isCompressible);
+        filterChain.doFilter(request, wrapper);
+        wrapper.finish();
+    }
+
+    private boolean isCompressible(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return contentType != null
+            && response.getHeader(HttpHeaders.CONTENT_ENCODING) == null
+            && mimeTypes.stream().anyMatch(contentType::startsWith);
+    }
+
+    /**
+     * Accept-Encoding 에 q=0 이 아닌 gzip 또는 * 가 있는지 확인합니다.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!GZIP.equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            boolean rejected = Arrays.stream(parts).skip(1)
+                .map(String::trim)
+                .anyMatch(param -> param.matches("q=0(\\.0{0,3})?"));
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
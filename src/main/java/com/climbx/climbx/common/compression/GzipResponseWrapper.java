@@ -0,0 +1,220 @@
+package com.climbx.climbx.common.compression;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.function.Predicate;
+import java.util.zip.GZIPOutputStream;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 본문을 minResponseSize 까지 버퍼링하다가, 넘으면 그 시점의 응답 헤더로 압축 여부를 정해 이후를 gzip 또는 원본 그대로 흘려보냅니다. 끝까지
+ * minResponseSize 에 못 미치면 압축하지 않고 버퍼를 그대로 씁니다.
+ * <p>
+ * 압축할 수 있으므로 버퍼링 중에는 Content-Length 설정과 flush 를 보류합니다.
+ */
+class GzipResponseWrapper extends HttpServletResponseWrapper {
+
+    private final int minResponseSize;
+    private final Predicate<HttpServletResponse> compressible;
+
+    private ByteArrayOutputStream buffer;
+    private OutputStream target;
+    private Long pendingContentLength;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    GzipResponseWrapper(
+        HttpServletResponse response,
+        int minResponseSize,
+        Predicate<HttpServletResponse> compressible
+    ) {
+        super(response);
+        this.minResponseSize = minResponseSize;
+        this.compressible = compressible;
+        this.buffer = new ByteArrayOutputStream(minResponseSize);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        if (outputStream == null) {
+            outputStream = new GzipServletOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            outputStream = new GzipServletOutputStream();
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int len) {
+        setContentLengthLong(len);
+    }
+
+    @Override
+    public void setContentLengthLong(long len) {
+        if (buffer != null) {
+            pendingContentLength = len;
+        } else if (!isGzip()) {
+            super.setContentLengthLong(len);
+        }
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+            return;
+        }
+        super.setHeader(name, value);
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            setContentLengthLong(Long.parseLong(value));
+            return;
+        }
+        super.addHeader(name, value);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (buffer == null) {
+            target.flush();
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("Response body has already been sent");
+        }
+        buffer.reset();
+        super.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        if (buffer == null) {
+            throw new IllegalStateException("Response body has already been sent");
+        }
+        buffer.reset();
+        pendingContentLength = null;
+        super.reset();
+    }
+
+    /**
+     * 필터 체인이 끝난 뒤 호출해 남은 버퍼를 쓰고 gzip 스트림을 닫습니다.
+     */
+    void finish() throws IOException {
+        if (outputStream == null) {
+            // 본문을 쓰지 않은 응답 (304, sendError 등)
+            return;
+        }
+        if (writer != null) {
+            writer.flush();
+        }
+        if (buffer != null) {
+            // minResponseSize 미만이면 원본 그대로 전송
+            byte[] body = buffer.toByteArray();
+            buffer = null;
+            if (!isCommitted()) {
+                super.setContentLengthLong(body.length);
+            }
+            target = super.getOutputStream();
+            target.write(body);
+        }
+        if (target instanceof GZIPOutputStream gzip) {
+            gzip.finish();
+        }
+    }
+
+    private boolean isGzip() {
+        return target instanceof GZIPOutputStream;
+    }
+
+    /**
+     * 버퍼가 minResponseSize 에 도달한 시점에 압축 여부를 정하고 버퍼를 내보냅니다.
+     */
+    private void startStreaming() throws IOException {
+        byte[] buffered = buffer.toByteArray();
+        buffer = null;
+        if (compressible.test(this)) {
+            super.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            target = new GZIPOutputStream(super.getOutputStream(), true);
+        } else {
+            if (pendingContentLength != null) {
+                super.setContentLengthLong(pendingContentLength);
+            }
+            target = super.getOutputStream();
+        }
+        target.write(buffered);
+    }
+
+    private class GzipServletOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (buffer == null) {
+                target.write(b, off, len);
+                return;
+            }
+            buffer.write(b, off, len);
+            if (buffer.size() >= minResponseSize) {
+                startStreaming();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // 버퍼링 중에는 압축 여부를 정하기 전이므로 보류
+            if (buffer == null) {
+                target.flush();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            finish();
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            throw new UnsupportedOperationException("Async writes are not supported");
+        }
+    }
+}
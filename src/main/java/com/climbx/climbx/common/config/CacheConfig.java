@@ -2,7 +2,11 @@ package com.climbx.climbx.common.config;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -24,7 +28,8 @@ public class CacheConfig {
     }
 
     /**
-     * 사용된 Nonce 캐시 TTL: 10분 (OAuth2 인증 플로우 완료에 충분한 시간) 최대 크기: 50,000개
+     * 사용된 Nonce 캐시 (키: nonce 해시) TTL: 10분 (OAuth2 인증 플로우 완료에 충분한 시간) 최대 크기: 50,000개 통계의 miss는 새
+     * nonce, hit는 재사용 시도입니다.
      */
     @Bean
     public Cache<String, Boolean> usedNonces() {
@@ -34,4 +39,40 @@ public class CacheConfig {
             .recordStats()
             .build();
     }
-} 
\ No newline at end of file
+
+    /**
+     * DB에도 없는 comcode의 negative cache TTL: 10분 최대 크기: 1,000개
+     */
+    @Bean
+    public Cache<String, Boolean> missingComcodes() {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .maximumSize(1000)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 카탈로그(gyms, problems) 데이터 버전 캐시 (ETag 계산용) TTL: catalog.etag.version-ttl
+     */
+    @Bean
+    public Cache<String, String> catalogVersion(
+        @Value("${catalog.etag.version-ttl:PT5S}") Duration versionTtl
+    ) {
+        return Caffeine.newBuilder()
+            .expireAfterWrite(versionTtl)
+            .maximumSize(1)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 등록된 모든 Caffeine 캐시를 cache 태그(빈 이름)로 구분해 Micrometer에 등록합니다. (cache.gets, cache.evictions,
+     * cache.size, cache.load.duration 등)
+     */
+    @Bean
+    public MeterBinder caffeineCacheMetrics(Map<String, Cache<?, ?>> caches) {
+        return registry -> caches.forEach(
+            (name, cache) -> CaffeineCacheMetrics.monitor(registry, cache, name));
+    }
+}
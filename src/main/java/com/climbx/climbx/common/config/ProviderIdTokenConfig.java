@@ -1,6 +1,8 @@
 package com.climbx.climbx.common.config;
 
 import com.climbx.climbx.auth.provider.UserInfoExtractor;
+import com.climbx.climbx.auth.provider.jwks.ProviderJwksManager;
+import com.nimbusds.jose.JWSAlgorithm;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -12,7 +14,6 @@ import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2Error;
 import org.springframework.security.oauth2.core.OAuth2TokenValidator;
 import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
-import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtValidators;
@@ -27,6 +28,7 @@ import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 public class ProviderIdTokenConfig {
 
     private final List<UserInfoExtractor> userInfoExtractors;
+    private final ProviderJwksManager providerJwksManager;
 
     /**
      * Provider별 JwtDecoder 맵을 생성합니다. 각 Provider의 구현체에서 제공하는 설정을 사용하여 JwtDecoder를 동적으로 생성합니다.
@@ -46,7 +48,8 @@ public class ProviderIdTokenConfig {
     }
 
     /**
-     * UserInfoExtractor에서 제공하는 설정을 사용하여 JwtDecoder를 생성합니다. NimbusJwtDecoder가 공개키 캐싱 및 자동 갱신 기능 제공
+     * UserInfoExtractor에서 제공하는 설정을 사용하여 JwtDecoder를 생성합니다. 공개키는 ProviderJwksManager가 미리 받아와 백그라운드에서
+     * 갱신합니다.
      */
     private JwtDecoder createJwtDecoder(UserInfoExtractor extractor) {
         String providerType = extractor.getProviderType().name();
@@ -55,11 +58,12 @@ public class ProviderIdTokenConfig {
 
         log.debug("{} JwtDecoder 생성 시작: jwksUri={}, issuer={}", providerType, jwksUri, issuer);
 
-        // NimbusJwtDecoder를 직접 생성하여 커스텀 검증기 설정 가능
-        NimbusJwtDecoder decoder = NimbusJwtDecoder
-            .withJwkSetUri(jwksUri)
-            .jwsAlgorithm(SignatureAlgorithm.RS256)
-            .build();
+        // JWKS prefetch 후 메모리의 키 목록으로 서명을 검증하는 decoder 생성
+        NimbusJwtDecoder decoder = providerJwksManager.createDecoder(
+            providerType.toLowerCase(),
+            jwksUri,
+            JWSAlgorithm.RS256
+        );
 
         // 표준 검증기 설정 (issuer 검증 포함)
         OAuth2TokenValidator<Jwt> defaultValidators = JwtValidators.createDefaultWithIssuer(issuer);
@@ -0,0 +1,24 @@
+package com.climbx.climbx.common.config;
+
+import com.climbx.climbx.common.sqlTracking.SqlStatementInspector;
+import com.climbx.climbx.common.sqlTracking.SqlTimingSessionEventListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlTrackingConfig {
+
+    /**
+     * 요청별 SQL 수/실행 시간 수집을 위해 StatementInspector와 Session 이벤트 리스너를 등록합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer sqlTrackingHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                SqlTimingSessionEventListener.class.getName());
+        };
+    }
+}
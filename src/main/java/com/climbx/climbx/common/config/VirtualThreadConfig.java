@@ -0,0 +1,46 @@
+package com.climbx.climbx.common.config;
+
+import com.climbx.climbx.common.datasource.ConcurrencyLimitedDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * virtual thread 모드(spring.threads.virtual.enabled=true) 전용 설정.
+ * <p>
+ * Tomcat 요청 처리와 @Scheduled 실행은 Spring Boot가 virtual thread로 전환하며, 여기서는 DB 동시성을
+ * db.concurrency.max-concurrency 로 제한합니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+        Environment environment
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 실제 커넥션 풀에만 적용 (라우팅/프록시 DataSource는 제외)
+                if (!(bean instanceof HikariDataSource dataSource)) {
+                    return bean;
+                }
+
+                int maxConcurrency = environment.getProperty(
+                    "db.concurrency.max-concurrency", Integer.class, 10);
+                Duration acquireTimeout = environment.getProperty(
+                    "db.concurrency.acquire-timeout", Duration.class, Duration.ofSeconds(3));
+                log.info("DataSource '{}' 동시성 제한: maxConcurrency={}, acquireTimeout={}",
+                    beanName, maxConcurrency, acquireTimeout);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeout);
+            }
+        };
+    }
+}
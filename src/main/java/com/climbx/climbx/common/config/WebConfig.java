@@ -1,10 +1,16 @@
 package com.climbx.climbx.common.config;
 
+import com.climbx.climbx.common.etag.CatalogETagInterceptor;
+import com.climbx.climbx.common.response.ApiResponseHttpMessageConverter;
+import com.climbx.climbx.common.sqlTracking.SqlTrackingInterceptor;
 import com.climbx.climbx.common.timeTracking.TimeTrackingInterceptor;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -14,11 +20,33 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final TimeTrackingInterceptor timeTrackingInterceptor;
+    private final SqlTrackingInterceptor sqlTrackingInterceptor;
+    private final CatalogETagInterceptor catalogETagInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(timeTrackingInterceptor)
             .addPathPatterns("/api/**"); // API 경로에만 적용
+        registry.addInterceptor(sqlTrackingInterceptor)
+            .addPathPatterns("/api/**");
+        registry.addInterceptor(catalogETagInterceptor)
+            .addPathPatterns("/api/gyms/**", "/api/problems"); // 카탈로그 조회에만 조건부 요청 적용
+    }
+
+    /**
+     * 기본 Jackson 컨버터를 같은 ObjectMapper를 쓰는 ApiResponse 스트리밍 컨버터로 교체합니다.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            if (converters.get(i).getClass() == MappingJackson2HttpMessageConverter.class) {
+                MappingJackson2HttpMessageConverter jacksonConverter =
+                    (MappingJackson2HttpMessageConverter) converters.get(i);
+                converters.set(i,
+                    new ApiResponseHttpMessageConverter(jacksonConverter.getObjectMapper()));
+                return;
+            }
+        }
     }
 
     @Bean
@@ -0,0 +1,59 @@
+package com.climbx.climbx.common.datasource;
+
+import java.time.Duration;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * replica의 복제 지연을 주기적으로 확인합니다.
+ * <p>
+ * 지연이 허용치를 넘거나, 복제 상태를 조회할 수 없거나(replica 장애, 권한 부족 등), 아직 한 번도 확인하지 않았다면 replica를 사용할 수 없는
+ * 것으로 보고 읽기 트랜잭션도 primary로 보냅니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String REPLICA_STATUS_QUERY = "SHOW REPLICA STATUS";
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+
+    private volatile boolean replicaAvailable = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLag.toSeconds();
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:PT5S}")
+    public void check() {
+        try {
+            Long lagSeconds = replicaJdbcTemplate.query(REPLICA_STATUS_QUERY,
+                rs -> rs.next() ? rs.getObject(LAG_COLUMN, Long.class) : null);
+            update(lagSeconds);
+        } catch (DataAccessException e) {
+            log.debug("Replica 상태 조회 실패: {}", e.getMessage());
+            update(null);
+        }
+    }
+
+    /**
+     * 조회한 복제 지연(초)으로 replica 사용 여부를 갱신합니다. null이면 복제 상태를 알 수 없는 경우입니다.
+     */
+    void update(Long lagSeconds) {
+        boolean available = lagSeconds != null && lagSeconds <= maxLagSeconds;
+        if (available != replicaAvailable) {
+            log.warn("Replica 사용 여부 변경: available={}, lagSeconds={}, maxLagSeconds={}",
+                available, lagSeconds, maxLagSeconds);
+        }
+        replicaAvailable = available;
+    }
+}
@@ -0,0 +1,41 @@
+package com.climbx.climbx.common.datasource;
+
+import com.climbx.climbx.common.datasource.enums.DataSourceRole;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션은 replica로, 그 외(쓰기 트랜잭션, 트랜잭션 밖)는 primary로 보냅니다. replica를 사용할 수 없으면 읽기도 primary로
+ * 보냅니다.
+ * <p>
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로 반드시 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicationRoutingDataSource(
+        DataSource primaryDataSource,
+        DataSource replicaDataSource,
+        ReplicaLagMonitor replicaLagMonitor
+    ) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        setTargetDataSources(Map.of(
+            DataSourceRole.PRIMARY, primaryDataSource,
+            DataSourceRole.REPLICA, replicaDataSource
+        ));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+            && replicaLagMonitor.isReplicaAvailable()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
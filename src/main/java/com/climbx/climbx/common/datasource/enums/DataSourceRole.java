@@ -0,0 +1,6 @@
+package com.climbx.climbx.common.datasource.enums;
+
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
@@ -14,6 +14,14 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Getter
 public abstract class SoftDeleteTimeEntity {
 
+    /**
+     * 삭제되지 않은 행 조건. 각 엔티티의 {@code @SQLRestriction}에 지정해 모든 JPQL/파생 쿼리와 연관관계 로딩에 적용합니다. native
+     * query에는 적용되지 않으므로 직접 조건을 추가해야 합니다.
+     * <p>
+     * 자주 조회하는 인덱스는 deleted_at 을 선두 컬럼으로 둡니다(db/migration). 삭제된 행이 쌓여도 살아있는 행 범위만 읽게 됩니다.
+     */
+    public static final String NOT_DELETED = "deleted_at IS NULL";
+
     /*
      * soft delete 시간을 기록, null이면 삭제되지 않은 상태
      */
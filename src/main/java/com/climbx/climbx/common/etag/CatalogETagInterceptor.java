@@ -0,0 +1,63 @@
+package com.climbx.climbx.common.etag;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 카탈로그(클라이밍장, 문제) GET 요청에 대한 조건부 요청 처리를 담당합니다.
+ * <p>
+ * ETag는 응답 본문(매번 달라지는 timeStamp, responseTimeMs 포함)이 아니라 데이터 버전과 요청 URI로 계산합니다. 그래서 컨트롤러 실행 전에
+ * ETag를 알 수 있고, If-None-Match가 일치하면 서비스 로직 없이 바로 304를 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CatalogETagInterceptor implements HandlerInterceptor {
+
+    private final CatalogVersionProvider catalogVersionProvider;
+
+    @Override
+    public boolean preHandle(
+        @NonNull
+        HttpServletRequest request,
+
+        @NonNull
+        HttpServletResponse response,
+
+        @NonNull
+        Object handler
+    ) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return true;
+        }
+
+        String etag = createETag(request);
+
+        // ETag 헤더를 설정하고, If-None-Match가 일치하면 304 상태를 설정
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            log.debug("Not modified: {} {}", request.getMethod(), request.getRequestURI());
+            return false;
+        }
+        return true;
+    }
+
+    private String createETag(HttpServletRequest request) {
+        StringBuilder source = new StringBuilder(catalogVersionProvider.currentVersion())
+            .append(' ')
+            .append(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            source.append('?').append(request.getQueryString());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(
+            source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
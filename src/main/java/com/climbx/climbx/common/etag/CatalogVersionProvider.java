@@ -0,0 +1,48 @@
+package com.climbx.climbx.common.etag;
+
+import com.climbx.climbx.common.etag.dto.DataVersion;
+import com.climbx.climbx.gym.repository.GymRepository;
+import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이밍장/문제 카탈로그의 데이터 버전을 제공합니다.
+ * <p>
+ * gyms, problems 테이블의 버전(행 수, 마지막 수정 시각)을 합친 문자열이며, 요청마다 집계 쿼리가 나가지 않도록 짧은 시간 동안 캐싱합니다. 따라서
+ * 데이터 변경은 최대 TTL 만큼 늦게 ETag에 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogVersionProvider {
+
+    private static final String CATALOG_KEY = "catalog";
+
+    private final GymRepository gymRepository;
+    private final ProblemRepository problemRepository;
+    private final Cache<String, String> catalogVersion;
+
+    /**
+     * 현재 카탈로그 버전을 반환합니다. 데이터가 바뀌지 않았다면 항상 같은 값을 반환합니다.
+     */
+    public String currentVersion() {
+        // Cache.get(key, loader)는 ConcurrentHashMap.compute 안(synchronized)에서 쿼리를 실행해 virtual thread를
+        // pinning하므로, 조회와 적재를 분리 (만료 직후 동시 요청은 버전 쿼리를 중복 실행할 수 있음)
+        String version = catalogVersion.getIfPresent(CATALOG_KEY);
+        if (version == null) {
+            version = loadVersion();
+            catalogVersion.put(CATALOG_KEY, version);
+        }
+        return version;
+    }
+
+    private String loadVersion() {
+        return format(gymRepository.findDataVersion()) + "/" + format(
+            problemRepository.findDataVersion());
+    }
+
+    private static String format(DataVersion version) {
+        return version.count() + ":" + version.lastUpdatedAt();
+    }
+}
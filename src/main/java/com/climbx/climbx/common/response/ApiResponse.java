@@ -21,67 +21,67 @@ public record ApiResponse<T>(
         /*
          * success
          */
-        return ApiResponse.<T>builder()
-            .httpStatus((long) HttpStatus.OK.value())
-            .statusMessage("SUCCESS")
-            .timeStamp(Instant.now())
-            .responseTimeMs(TimeContext.getResponseTime())
-            .path(TimeContext.getPath())
-            .data(data)
-            .build();
+        return new ApiResponse<>(
+            (long) HttpStatus.OK.value(),
+            "SUCCESS",
+            Instant.now(),
+            TimeContext.getResponseTime(),
+            TimeContext.getPath(),
+            data
+        );
     }
 
     public static <T> ApiResponse<T> success(T data, HttpStatus httpStatus) {
         /*
          * success
          */
-        return ApiResponse.<T>builder()
-            .httpStatus((long) httpStatus.value())
-            .statusMessage("SUCCESS")
-            .timeStamp(Instant.now())
-            .responseTimeMs(TimeContext.getResponseTime())
-            .path(TimeContext.getPath())
-            .data(data)
-            .build();
+        return new ApiResponse<>(
+            (long) httpStatus.value(),
+            "SUCCESS",
+            Instant.now(),
+            TimeContext.getResponseTime(),
+            TimeContext.getPath(),
+            data
+        );
     }
 
     public static <T> ApiResponse<T> success(T data, String message) {
         /*
          * success with custom message
          */
-        return ApiResponse.<T>builder()
-            .httpStatus((long) HttpStatus.OK.value())
-            .statusMessage(message)
-            .timeStamp(Instant.now())
-            .responseTimeMs(TimeContext.getResponseTime())
-            .path(TimeContext.getPath())
-            .data(data)
-            .build();
+        return new ApiResponse<>(
+            (long) HttpStatus.OK.value(),
+            message,
+            Instant.now(),
+            TimeContext.getResponseTime(),
+            TimeContext.getPath(),
+            data
+        );
     }
 
     public static <T> ApiResponse<T> error(ErrorCode errorCode) {
-        return ApiResponse.<T>builder()
-            .httpStatus((long) errorCode.status().value())
-            .statusMessage(errorCode.message())
-            .timeStamp(Instant.now())
-            .responseTimeMs(TimeContext.getResponseTime())
-            .path(TimeContext.getPath())
-            .data(null)
-            .build();
+        return new ApiResponse<>(
+            (long) errorCode.status().value(),
+            errorCode.message(),
+            Instant.now(),
+            TimeContext.getResponseTime(),
+            TimeContext.getPath(),
+            null
+        );
     }
 
     public static <T> ApiResponse<T> error(HttpStatus httpStatus, String message) {
         /*
          * error
          */
-        return ApiResponse.<T>builder()
-            .httpStatus((long) httpStatus.value())
-            .statusMessage(message)
-            .timeStamp(Instant.now())
-            .responseTimeMs(TimeContext.getResponseTime())
-            .path(TimeContext.getPath())
-            .data(null)
-            .build();
+        return new ApiResponse<>(
+            (long) httpStatus.value(),
+            message,
+            Instant.now(),
+            TimeContext.getResponseTime(),
+            TimeContext.getPath(),
+            null
+        );
     }
 
 }
@@ -0,0 +1,37 @@
+package com.climbx.climbx.common.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * 기본 Jackson 컨버터를 대체합니다. {@link ApiResponseAdvice}가 감싼 {@link ApiResponse}는
+ * {@link ApiResponseJsonWriter}로 바로 스트리밍하고, 그 외 타입은 기존과 동일하게 처리합니다.
+ */
+public class ApiResponseHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final ApiResponseJsonWriter apiResponseJsonWriter;
+
+    public ApiResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+        this.apiResponseJsonWriter = new ApiResponseJsonWriter(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(
+        @NonNull Object object,
+        @Nullable Type type,
+        @NonNull HttpOutputMessage outputMessage
+    ) throws IOException, HttpMessageNotWritableException {
+        if (object instanceof ApiResponse<?> apiResponse) {
+            apiResponseJsonWriter.write(apiResponse, outputMessage.getBody());
+            return;
+        }
+        super.writeInternal(object, type, outputMessage);
+    }
+}
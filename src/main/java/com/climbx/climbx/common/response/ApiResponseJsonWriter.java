@@ -0,0 +1,88 @@
+package com.climbx.climbx.common.response;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import org.springframework.util.StreamUtils;
+
+/**
+ * {@link ApiResponse}를 리플렉션 없이 직접 쓰는 JSON writer.
+ * <p>
+ * 봉투 필드는 미리 인코딩한 필드명으로 바로 쓰고, data는 타입별로 미리 만들어 둔 {@link ObjectWriter}로 출력 스트림에 이어서
+ * 직렬화합니다. 출력 결과는 ObjectMapper로 ApiResponse를 직렬화한 것과 같습니다.
+ */
+public class ApiResponseJsonWriter {
+
+    private static final SerializedString HTTP_STATUS = new SerializedString("httpStatus");
+    private static final SerializedString STATUS_MESSAGE = new SerializedString("statusMessage");
+    private static final SerializedString TIME_STAMP = new SerializedString("timeStamp");
+    private static final SerializedString RESPONSE_TIME_MS = new SerializedString("responseTimeMs");
+    private static final SerializedString PATH = new SerializedString("path");
+    private static final SerializedString DATA = new SerializedString("data");
+
+    private final ObjectMapper objectMapper;
+
+    // data 타입별 writer (root serializer를 미리 찾아 둠)
+    private final ClassValue<ObjectWriter> dataWriters = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+            return objectMapper.writerFor(type);
+        }
+    };
+
+    public ApiResponseJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public void write(ApiResponse<?> response, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory()
+            .createGenerator(StreamUtils.nonClosing(outputStream), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+
+            generator.writeFieldName(HTTP_STATUS);
+            writeNumber(generator, response.httpStatus());
+            generator.writeFieldName(STATUS_MESSAGE);
+            generator.writeString(response.statusMessage());
+            generator.writeFieldName(TIME_STAMP);
+            writeInstant(generator, response.timeStamp());
+            generator.writeFieldName(RESPONSE_TIME_MS);
+            writeNumber(generator, response.responseTimeMs());
+            generator.writeFieldName(PATH);
+            generator.writeString(response.path());
+
+            generator.writeFieldName(DATA);
+            Object data = response.data();
+            if (data == null) {
+                generator.writeNull();
+            } else {
+                dataWriters.get(data.getClass()).writeValue(generator, data);
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, Long value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+
+    /**
+     * write-dates-as-timestamps: false 설정의 InstantSerializer와 같은 ISO-8601 형식
+     */
+    private static void writeInstant(JsonGenerator generator, Instant value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.climbx.climbx.common.security;
 
-import com.climbx.climbx.common.comcode.ComcodeService;
+import com.climbx.climbx.common.comcode.enums.ComcodeType;
 import com.climbx.climbx.common.security.dto.JwtTokenInfo;
-import com.climbx.climbx.common.security.exception.InvalidTokenException;
+import com.climbx.climbx.common.security.dto.TokenValidationResult;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,7 +26,6 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtContext jwtContext;
-    private final ComcodeService comcodeService;
 
     @Override
     protected void doFilterInternal(
@@ -36,23 +35,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         try {
-            // Bearer 토큰 추출
-            String token = jwtContext.extractTokenFromRequest(request);
-            JwtTokenInfo tokenInfo = jwtContext.parseToken(token);
-
-            // ACCESS 토큰인지 확인
-            String accessTokenType = comcodeService.getCodeValue("ACCESS");
-            if (!accessTokenType.equals(tokenInfo.tokenType())) {
-                log.debug("Invalid token type: expected={}, actual={}", accessTokenType,
-                    tokenInfo.tokenType());
-                throw new InvalidTokenException();
-            }
-
-            // Spring Security 인증 정보 설정
-            setAuthentication(tokenInfo.userId(), comcodeService.getCodeValue(tokenInfo.role()));
-
-            log.debug("JWT authentication successful for user: {}", tokenInfo.userId());
-
+            // Bearer 토큰이 있는 경우에만 검증 (만료/위조 토큰도 예외 없이 처리)
+            jwtContext.resolveToken(request)
+                .map(jwtContext::validateToken)
+                .ifPresent(this::authenticate);
         } catch (Exception e) {
             log.debug("JWT authentication failed: {}", e.getMessage());
             // 예상치 못한 오류 발생 시에도 인증 없이 계속 진행
@@ -61,6 +47,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
 
+    private void authenticate(TokenValidationResult result) {
+        switch (result) {
+            case TokenValidationResult.Valid valid -> authenticate(valid.tokenInfo());
+            case TokenValidationResult.Expired expired ->
+                log.debug("JWT authentication failed: token expired");
+            case TokenValidationResult.Invalid invalid ->
+                log.debug("JWT authentication failed: {}", invalid.reason());
+        }
+    }
+
+    private void authenticate(JwtTokenInfo tokenInfo) {
+        // ACCESS 토큰인지 확인
+        if (!ComcodeType.ACCESS.code().equals(tokenInfo.tokenType())) {
+            log.debug("Invalid token type: expected={}, actual={}", ComcodeType.ACCESS.code(),
+                tokenInfo.tokenType());
+            return;
+        }
+
+        // Spring Security 인증 정보 설정 (role은 발급 시 comcode 값 그대로 서명됨)
+        setAuthentication(tokenInfo.userId(), tokenInfo.role());
+
+        log.debug("JWT authentication successful for user: {}", tokenInfo.userId());
+    }
+
     /**
      * Spring Security 인증 정보를 설정합니다.
      */
@@ -1,32 +1,28 @@
 package com.climbx.climbx.common.security;
 
 import com.climbx.climbx.auth.dto.AccessTokenResponseDto;
-import com.climbx.climbx.common.comcode.ComcodeService;
+import com.climbx.climbx.common.comcode.enums.ComcodeType;
 import com.climbx.climbx.common.security.dto.JwtTokenInfo;
+import com.climbx.climbx.common.security.dto.TokenValidationResult;
 import com.climbx.climbx.common.security.exception.InvalidTokenException;
 import com.climbx.climbx.common.security.exception.TokenExpiredException;
-import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.MACVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
 import jakarta.servlet.http.HttpServletRequest;
 import java.nio.charset.StandardCharsets;
+import java.text.ParseException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
-import java.util.function.Function;
 import javax.crypto.spec.SecretKeySpec;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
-import org.springframework.security.oauth2.core.OAuth2TokenValidator;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
-import org.springframework.security.oauth2.jwt.JwsHeader;
-import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtAudienceValidator;
-import org.springframework.security.oauth2.jwt.JwtClaimsSet;
-import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
-import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.oauth2.jwt.JwtValidators;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenResolver;
 import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
 import org.springframework.stereotype.Component;
@@ -34,19 +30,30 @@ import org.springframework.stereotype.Component;
 @Component
 public class JwtContext {
 
-    private final ComcodeService comcodeService;
+    /**
+     * 만료/발급 시각 검증 시 허용하는 시계 오차 (Spring JwtTimestampValidator 기본값과 동일)
+     */
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+
+    // 검증 실패 결과는 상태가 없으므로 재사용
+    private static final TokenValidationResult EXPIRED = new TokenValidationResult.Expired();
+    private static final TokenValidationResult MALFORMED =
+        new TokenValidationResult.Invalid("malformed token");
+    private static final TokenValidationResult BAD_SIGNATURE =
+        new TokenValidationResult.Invalid("invalid signature");
+    private static final TokenValidationResult BAD_CLAIMS =
+        new TokenValidationResult.Invalid("invalid claims");
+
     private final BearerTokenResolver bearerTokenResolver;
-    private final NimbusJwtDecoder jwtDecoder;
-    private final JwtEncoder jwtEncoder;
+    private final JWSVerifier jwsVerifier;
+    private final JWSAlgorithm jwsHeaderAlgorithm;
+    private final JwtIssuer jwtIssuer;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
     private final String issuer;
     private final String audience;
-    private final MacAlgorithm jwsAlgorithm;
-    private final Function<JwtClaimsSet, String> tokenEncoder;
 
     public JwtContext(
-        ComcodeService comcodeService,
         @Value("${auth.jwt.secret}") String jwtSecret,
         @Value("${auth.jwt.access-token-expiration}") long accessTokenExpiration,
         @Value("${auth.jwt.refresh-token-expiration}") long refreshTokenExpiration,
@@ -54,8 +61,6 @@ public class JwtContext {
         @Value("${auth.jwt.audience}") String audience,
         @Value("${auth.jwt.jws-algorithm}") String jwsAlgorithm
     ) {
-        this.comcodeService = comcodeService;
-
         // DefaultBearerTokenResolver 설정
         DefaultBearerTokenResolver resolver = new DefaultBearerTokenResolver();
         resolver.setAllowFormEncodedBodyParameter(false); // Form parameter 비활성화
@@ -66,7 +71,6 @@ public class JwtContext {
         this.refreshTokenExpiration = refreshTokenExpiration;
         this.issuer = issuer;
         this.audience = audience;
-        this.jwsAlgorithm = MacAlgorithm.from(jwsAlgorithm);
 
         // SecretKeySpec 생성
         SecretKeySpec secretKey = new SecretKeySpec(
@@ -74,42 +78,38 @@ public class JwtContext {
             jwsAlgorithm
         );
 
-        // NimbusJwtDecoder 설정
-        NimbusJwtDecoder decoder = NimbusJwtDecoder
-            .withSecretKey(secretKey)
-            .build();
-
-        // 표준 검증기 설정 (issuer 검증 포함)
-        OAuth2TokenValidator<Jwt> defaultValidators = JwtValidators.createDefaultWithIssuer(issuer);
-        OAuth2TokenValidator<Jwt> audienceValidator = new JwtAudienceValidator(audience);
-
-        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
-            defaultValidators,
-            audienceValidator
-        ));
-
-        this.jwtDecoder = decoder;
-
-        // NimbusJwtEncoder 설정 (토큰 생성용)
-        this.jwtEncoder = new NimbusJwtEncoder(new ImmutableSecret<>(secretKey));
-
-        // 토큰 인코더 람다 (중복 코드 제거)
-        this.tokenEncoder = claims -> {
-            JwsHeader jwsHeader = JwsHeader.with(this.jwsAlgorithm)
-                .type("JWT")
-                .build();
-            return jwtEncoder.encode(JwtEncoderParameters.from(jwsHeader, claims)).getTokenValue();
-        };
+        // 서명 검증기 설정 (토큰 검증용)
+        try {
+            this.jwsVerifier = new MACVerifier(secretKey);
+        } catch (JOSEException e) {
+            throw new IllegalStateException("JWT secret is not valid for " + jwsAlgorithm, e);
+        }
+        this.jwsHeaderAlgorithm = JWSAlgorithm.parse(jwsAlgorithm);
+
+        // 토큰 발급기 설정 (헤더/고정 클레임 사전 인코딩)
+        this.jwtIssuer = new JwtIssuer(
+            secretKey,
+            MacAlgorithm.from(jwsAlgorithm),
+            issuer,
+            audience
+        );
     }
 
     /**
      * Bearer 토큰 추출 - Spring Security DefaultBearerTokenResolver 사용
      */
     public String extractTokenFromRequest(HttpServletRequest request) {
-        return Optional.ofNullable(bearerTokenResolver.resolve(request))
+        return resolveToken(request)
             .orElseThrow(InvalidTokenException::new);
     }
 
+    /**
+     * Bearer 토큰 조회 - 토큰이 없는 요청은 예외 없이 빈 값을 반환
+     */
+    public Optional<String> resolveToken(HttpServletRequest request) {
+        return Optional.ofNullable(bearerTokenResolver.resolve(request));
+    }
+
     /**
      * Access Token 생성
      */
@@ -117,18 +117,8 @@ public class JwtContext {
         Instant now = Instant.now();
         Instant expiresAt = now.plusSeconds(accessTokenExpiration);
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-            .issuer(issuer)
-            .audience(List.of(audience))
-            .subject(String.valueOf(userId))
-            .issuedAt(now)
-            .expiresAt(expiresAt)
-            .claim("role", comcodeService.getCodeValue(role))
-            .claim("type", comcodeService.getCodeValue("ACCESS"))
-            .build();
-
         return AccessTokenResponseDto.builder()
-            .accessToken(tokenEncoder.apply(claims))
+            .accessToken(jwtIssuer.issue(ComcodeType.ACCESS, role, userId, now, expiresAt))
             .expiresIn(accessTokenExpiration)
             .build();
     }
@@ -140,33 +130,66 @@ public class JwtContext {
         Instant now = Instant.now();
         Instant expiresAt = now.plusSeconds(refreshTokenExpiration);
 
-        JwtClaimsSet claims = JwtClaimsSet.builder()
-            .issuer(issuer)
-            .audience(List.of(audience))
-            .subject(String.valueOf(userId))
-            .issuedAt(now)
-            .expiresAt(expiresAt)
-            .claim("type", comcodeService.getCodeValue("REFRESH"))
-            .build();
-
-        return tokenEncoder.apply(claims);
+        return jwtIssuer.issue(ComcodeType.REFRESH, null, userId, now, expiresAt);
     }
 
     /**
      * 토큰에서 모든 정보를 한 번에 파싱
      */
     public JwtTokenInfo parseToken(String token) {
+        return switch (validateToken(token)) {
+            case TokenValidationResult.Valid valid -> valid.tokenInfo();
+            case TokenValidationResult.Expired expired -> throw new TokenExpiredException();
+            case TokenValidationResult.Invalid invalid ->
+                throw new InvalidTokenException(invalid.reason());
+        };
+    }
+
+    /**
+     * 토큰을 검증하고 결과를 반환합니다. 만료/위조 토큰에 대해 예외를 던지지 않습니다.
+     */
+    public TokenValidationResult validateToken(String token) {
+        if (token == null || !hasJwsStructure(token)) {
+            return MALFORMED;
+        }
+
+        SignedJWT signedJwt;
         try {
-            Jwt jwt = jwtDecoder.decode(token);
+            signedJwt = SignedJWT.parse(token);
+        } catch (ParseException e) {
+            return MALFORMED;
+        }
 
-            return JwtTokenInfo.from(jwt);
-        } catch (JwtException e) {
-            // JwtException은 토큰 만료, 서명 오류 등을 포함
-            if (e.getMessage().contains("expired")) {
-                throw new TokenExpiredException();
-            }
-            throw new InvalidTokenException();
+        if (!jwsHeaderAlgorithm.equals(signedJwt.getHeader().getAlgorithm())
+            || !verifySignature(signedJwt)) {
+            return BAD_SIGNATURE;
+        }
+
+        JWTClaimsSet claims;
+        try {
+            claims = signedJwt.getJWTClaimsSet();
+        } catch (ParseException e) {
+            return MALFORMED;
+        }
+
+        Instant now = Instant.now();
+        Date expiresAt = claims.getExpirationTime();
+        if (expiresAt != null && now.minus(CLOCK_SKEW).isAfter(expiresAt.toInstant())) {
+            return EXPIRED;
+        }
+
+        Date notBefore = claims.getNotBeforeTime();
+        if (notBefore != null && now.plus(CLOCK_SKEW).isBefore(notBefore.toInstant())) {
+            return BAD_CLAIMS;
+        }
+
+        List<String> audiences = claims.getAudience();
+        if (!issuer.equals(claims.getIssuer()) || !audiences.contains(audience)
+            || !isNumeric(claims.getSubject())) {
+            return BAD_CLAIMS;
         }
+
+        return new TokenValidationResult.Valid(JwtTokenInfo.from(claims));
     }
 
     public Long getAccessTokenExpiration() {
@@ -176,4 +199,36 @@ public class JwtContext {
     public long getRefreshTokenExpiration() {
         return refreshTokenExpiration;
     }
+
+    private boolean verifySignature(SignedJWT signedJwt) {
+        try {
+            return signedJwt.verify(jwsVerifier);
+        } catch (JOSEException e) {
+            return false;
+        }
+    }
+
+    /**
+     * header.payload.signature 형태인지 파싱 전에 확인
+     */
+    private static boolean hasJwsStructure(String token) {
+        int first = token.indexOf('.');
+        int second = token.indexOf('.', first + 1);
+        return first > 0
+            && second > first + 1
+            && second < token.length() - 1
+            && token.indexOf('.', second + 1) < 0;
+    }
+
+    private static boolean isNumeric(String value) {
+        if (value == null || value.isEmpty() || value.length() > 18) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.climbx.climbx.common.security;
+
+import com.climbx.climbx.common.comcode.enums.ComcodeType;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+
+/**
+ * HS256/384/512 JWT 발급기.
+ * <p>
+ * 헤더와 고정 클레임(iss, aud, type)은 토큰 타입별로 미리 Base64URL로 인코딩해 두고, 요청마다 sub/iat/exp/role 부분만 인코딩한 뒤
+ * 스레드별로 재사용하는 {@link Mac}으로 서명합니다. 결과는 표준 JWS Compact 형식이므로 NimbusJwtDecoder 등 기존 검증기로 그대로
+ * 검증할 수 있습니다.
+ */
+final class JwtIssuer {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final String headerSegment;
+    private final String constantClaims;
+    private final ThreadLocal<Mac> macHolder;
+
+    // 토큰 타입 -> 미리 인코딩된 payload prefix
+    private final Map<ComcodeType, String> encodedPrefixes = new EnumMap<>(ComcodeType.class);
+    // 권한 코드 -> JSON 문자열로 이스케이프된 값
+    private final Map<String, String> roleClaims = new ConcurrentHashMap<>();
+
+    JwtIssuer(
+        SecretKey secretKey,
+        MacAlgorithm algorithm,
+        String issuer,
+        String audience
+    ) {
+        String jcaAlgorithm = toJcaAlgorithm(algorithm);
+        createMac(secretKey, jcaAlgorithm); // 잘못된 키는 기동 시점에 실패
+
+        this.headerSegment = BASE64_URL.encodeToString(
+            ("{\"alg\":\"" + algorithm.getName() + "\",\"typ\":\"JWT\"}")
+                .getBytes(StandardCharsets.UTF_8)
+        ) + ".";
+        this.constantClaims = "\"iss\":" + quote(issuer) + ",\"aud\":" + quote(audience);
+        for (ComcodeType tokenType : List.of(ComcodeType.ACCESS, ComcodeType.REFRESH)) {
+            encodedPrefixes.put(tokenType, encodePrefix(tokenType.code()));
+        }
+        this.macHolder = ThreadLocal.withInitial(() -> createMac(secretKey, jcaAlgorithm));
+    }
+
+    /**
+     * JWT를 발급합니다.
+     *
+     * @param tokenType 토큰 타입 (ACCESS, REFRESH)
+     * @param role      권한 코드, null이면 role 클레임을 포함하지 않음
+     */
+    String issue(ComcodeType tokenType, String role, Long userId, Instant issuedAt, Instant expiresAt) {
+        StringBuilder claims = new StringBuilder(64)
+            .append("\"sub\":\"").append(userId)
+            .append("\",\"iat\":").append(issuedAt.getEpochSecond())
+            .append(",\"exp\":").append(expiresAt.getEpochSecond());
+        if (role != null) {
+            claims.append(",\"role\":")
+                .append(roleClaims.computeIfAbsent(role, JwtIssuer::quote));
+        }
+        claims.append('}');
+
+        String signingInput = headerSegment
+            + encodedPrefixes.get(tokenType)
+            + BASE64_URL.encodeToString(claims.toString().getBytes(StandardCharsets.UTF_8));
+
+        byte[] signature = macHolder.get()
+            .doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+
+        return signingInput + "." + BASE64_URL.encodeToString(signature);
+    }
+
+    /**
+     * 고정 클레임 prefix를 3바이트 경계에 맞춰 공백으로 채운 뒤 인코딩합니다. 경계가 맞으므로 뒤에 이어지는 가변 클레임의 인코딩 결과를 그대로
+     * 붙여도 전체 payload를 한 번에 인코딩한 것과 같습니다.
+     */
+    private String encodePrefix(String tokenType) {
+        String prefix = "{" + constantClaims + ",\"type\":" + quote(tokenType)
+            + ",";
+        int length = prefix.getBytes(StandardCharsets.UTF_8).length;
+        String aligned = prefix + " ".repeat((3 - length % 3) % 3);
+        return BASE64_URL.encodeToString(aligned.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mac createMac(SecretKey secretKey, String jcaAlgorithm) {
+        try {
+            Mac mac = Mac.getInstance(jcaAlgorithm);
+            mac.init(secretKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT signing key is not valid for " + jcaAlgorithm, e);
+        }
+    }
+
+    private static String toJcaAlgorithm(MacAlgorithm algorithm) {
+        return switch (algorithm) {
+            case HS256 -> "HmacSHA256";
+            case HS384 -> "HmacSHA384";
+            case HS512 -> "HmacSHA512";
+        };
+    }
+
+    private static String quote(String value) {
+        StringBuilder quoted = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> quoted.append("\\\"");
+                case '\\' -> quoted.append("\\\\");
+                default -> {
+                    if (c < 0x20) {
+                        quoted.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        quoted.append(c);
+                    }
+                }
+            }
+        }
+        return quoted.append('"').toString();
+    }
+}
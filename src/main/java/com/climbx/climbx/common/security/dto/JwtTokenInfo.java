@@ -1,7 +1,8 @@
 package com.climbx.climbx.common.security.dto;
 
+import com.nimbusds.jwt.JWTClaimsSet;
+import java.util.Objects;
 import lombok.Builder;
-import org.springframework.security.oauth2.jwt.Jwt;
 
 /**
  * JWT 토큰 파싱 결과를 담는 DTO
@@ -16,13 +17,13 @@ public record JwtTokenInfo(
     String tokenType
 ) {
 
-    public static JwtTokenInfo from(Jwt jwt) {
+    public static JwtTokenInfo from(JWTClaimsSet claims) {
         return JwtTokenInfo.builder()
-            .userId(Long.parseLong(jwt.getSubject()))
-            .issuer(jwt.getIssuer().toString())
-            .audience(jwt.getAudience().stream().findFirst().orElse(null))
-            .role(jwt.getClaimAsString("role"))
-            .tokenType(jwt.getClaimAsString("type"))
+            .userId(Long.parseLong(claims.getSubject()))
+            .issuer(claims.getIssuer())
+            .audience(claims.getAudience().stream().findFirst().orElse(null))
+            .role(Objects.toString(claims.getClaim("role"), null))
+            .tokenType(Objects.toString(claims.getClaim("type"), null))
             .build();
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.climbx.climbx.common.security.dto;
+
+/**
+ * JWT 토큰 검증 결과. 만료/위조 토큰을 예외 없이 표현하기 위해 사용합니다.
+ */
+public sealed interface TokenValidationResult {
+
+    /**
+     * 서명과 클레임 검증을 모두 통과한 토큰
+     */
+    record Valid(JwtTokenInfo tokenInfo) implements TokenValidationResult {
+
+    }
+
+    /**
+     * 서명은 유효하지만 만료된 토큰
+     */
+    record Expired() implements TokenValidationResult {
+
+    }
+
+    /**
+     * 형식, 서명 또는 클레임이 올바르지 않은 토큰
+     */
+    record Invalid(String reason) implements TokenValidationResult {
+
+    }
+}
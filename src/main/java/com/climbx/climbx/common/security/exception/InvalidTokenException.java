@@ -12,4 +12,12 @@ public class InvalidTokenException extends BusinessException {
     public InvalidTokenException(String message) {
         super(ErrorCode.INVALID_TOKEN, message);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 잘못된 토큰 요청이 몰릴 때 스택 트레이스 수집 비용이 커지므로 생략합니다.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
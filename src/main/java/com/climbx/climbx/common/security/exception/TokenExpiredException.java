@@ -13,4 +13,12 @@ public class TokenExpiredException extends BusinessException {
         super(ErrorCode.TOKEN_EXPIRED);
         addContext("tokenType", tokenType);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 토큰 만료는 정상적인 흐름이므로 스택 트레이스를 수집하지 않습니다.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,50 @@
+package com.climbx.climbx.common.sqlTracking;
+
+import java.util.concurrent.TimeUnit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 헤더에 해당 요청에서 실행된 SQL 수와 JDBC 실행 시간을 담습니다. (개발 환경에서 N+1 확인용, sql.tracking.response-header=true)
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "sql.tracking.response-header", havingValue = "true")
+public class SqlCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    static final String SQL_COUNT_HEADER = "X-Sql-Count";
+    static final String SQL_TIME_HEADER = "X-Sql-Time-Ms";
+
+    @Override
+    public boolean supports(
+        @NonNull MethodParameter returnType,
+        @NonNull Class<? extends HttpMessageConverter<?>> _converterType
+    ) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        Object body,
+        @NonNull MethodParameter returnType,
+        @NonNull MediaType _selectedContentType,
+        @NonNull Class<? extends HttpMessageConverter<?>> _selectedConverterType,
+        @NonNull ServerHttpRequest request,
+        @NonNull ServerHttpResponse response
+    ) {
+        SqlStatistics statistics = SqlTrackingContext.get();
+        if (statistics != null) {
+            response.getHeaders().set(SQL_COUNT_HEADER,
+                String.valueOf(statistics.getStatementCount()));
+            response.getHeaders().set(SQL_TIME_HEADER,
+                String.valueOf(TimeUnit.NANOSECONDS.toMillis(statistics.getTotalNanos())));
+        }
+        return body;
+    }
+}
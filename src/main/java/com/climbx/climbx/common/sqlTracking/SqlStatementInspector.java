@@ -0,0 +1,18 @@
+package com.climbx.climbx.common.sqlTracking;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 실행 직전의 SQL을 요청 통계에 기록합니다. slow query 로그와 가장 느린 SQL 식별에 사용되며, SQL은 변경하지 않습니다.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatistics statistics = SqlTrackingContext.get();
+        if (statistics != null) {
+            statistics.prepared(sql);
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,41 @@
+package com.climbx.climbx.common.sqlTracking;
+
+import lombok.Getter;
+
+/**
+ * 한 요청 동안 실행된 SQL 통계. 요청 스레드에서만 접근하므로 동기화하지 않습니다.
+ */
+@Getter
+public class SqlStatistics {
+
+    private final String path;
+    private final long slowQueryThresholdNanos;
+
+    private int statementCount;
+    private long totalNanos;
+    private long slowestNanos;
+    private String slowestSql;
+    private String lastPreparedSql;
+
+    public SqlStatistics(String path, long slowQueryThresholdNanos) {
+        this.path = path;
+        this.slowQueryThresholdNanos = slowQueryThresholdNanos;
+    }
+
+    void prepared(String sql) {
+        lastPreparedSql = sql;
+    }
+
+    /**
+     * 직전에 준비된 SQL의 실행 시간을 기록하고, slow query 기준을 넘었는지 반환합니다.
+     */
+    boolean record(long elapsedNanos) {
+        statementCount++;
+        totalNanos += elapsedNanos;
+        if (elapsedNanos > slowestNanos) {
+            slowestNanos = elapsedNanos;
+            slowestSql = lastPreparedSql;
+        }
+        return elapsedNanos >= slowQueryThresholdNanos;
+    }
+}
@@ -0,0 +1,47 @@
+package com.climbx.climbx.common.sqlTracking;
+
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * Hibernate Session별로 생성되어 JDBC 실행 시간을 요청 통계에 기록합니다. 요청 밖(스케줄러 등)에서 실행된 SQL은 기록하지 않습니다.
+ */
+@Slf4j
+public class SqlTimingSessionEventListener implements SessionEventListener {
+
+    private long executeStartNanos;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executeStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record();
+    }
+
+    private void record() {
+        SqlStatistics statistics = SqlTrackingContext.get();
+        if (statistics == null) {
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - executeStartNanos;
+        if (statistics.record(elapsedNanos)) {
+            log.warn("Slow query: {} - {}ms - {}", statistics.getPath(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), statistics.getLastPreparedSql());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.climbx.climbx.common.sqlTracking;
+
+public class SqlTrackingContext {
+
+    private static final ThreadLocal<SqlStatistics> statisticsHolder = new ThreadLocal<>();
+
+    public static SqlStatistics get() {
+        return statisticsHolder.get();
+    }
+
+    public static void start(SqlStatistics statistics) {
+        statisticsHolder.set(statistics);
+    }
+
+    public static void clear() {
+        statisticsHolder.remove();
+    }
+}
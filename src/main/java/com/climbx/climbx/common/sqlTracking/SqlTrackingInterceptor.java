@@ -0,0 +1,101 @@
+package com.climbx.climbx.common.sqlTracking;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 SQL 통계를 수집하고, 요청이 끝나면 라우트(uri 템플릿)별 메트릭으로 기록합니다.
+ * <ul>
+ *     <li>sql.statements: 요청당 실행된 SQL 수</li>
+ *     <li>sql.jdbc.time: 요청당 JDBC 실행 시간 합계</li>
+ *     <li>sql.statement.slowest: 요청에서 가장 느린 SQL의 실행 시간</li>
+ * </ul>
+ */
+@Component
+public class SqlTrackingInterceptor implements HandlerInterceptor {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowQueryThresholdNanos;
+
+    public SqlTrackingInterceptor(
+        MeterRegistry meterRegistry,
+        @Value("${sql.tracking.slow-query-threshold:PT0.2S}") Duration slowQueryThreshold
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public boolean preHandle(
+        @NonNull
+        HttpServletRequest request,
+
+        @NonNull
+        HttpServletResponse response,
+
+        @NonNull
+        Object handler
+    ) {
+        SqlTrackingContext.start(new SqlStatistics(request.getRequestURI(), slowQueryThresholdNanos));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+        @NonNull
+        HttpServletRequest request,
+
+        @NonNull
+        HttpServletResponse response,
+
+        @NonNull
+        Object handler,
+
+        Exception ex
+    ) {
+        SqlStatistics statistics = SqlTrackingContext.get();
+        SqlTrackingContext.clear();
+        if (statistics == null) {
+            return;
+        }
+
+        String uri = resolveUri(request);
+        DistributionSummary.builder("sql.statements")
+            .description("Number of SQL statements executed per request")
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(statistics.getStatementCount());
+
+        if (statistics.getStatementCount() == 0) {
+            return;
+        }
+
+        Timer.builder("sql.jdbc.time")
+            .description("Total JDBC execution time per request")
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(statistics.getTotalNanos(), TimeUnit.NANOSECONDS);
+        Timer.builder("sql.statement.slowest")
+            .description("Slowest SQL statement per request")
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(statistics.getSlowestNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private String resolveUri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
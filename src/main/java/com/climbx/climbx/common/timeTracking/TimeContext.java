@@ -1,7 +1,12 @@
 package com.climbx.climbx.common.timeTracking;
 
+/**
+ * 응답 envelope의 responseTimeMs, path 값을 위한 요청 단위 컨텍스트. 시작 시각은 System.nanoTime() 값입니다.
+ */
 public class TimeContext {
 
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
     private static final ThreadLocal<Long> startTimeHolder = new ThreadLocal<>();
     private static final ThreadLocal<String> pathHolder = new ThreadLocal<>();
 
@@ -9,8 +14,8 @@ public class TimeContext {
         return startTimeHolder.get();
     }
 
-    public static void setStartTime(long startTime) {
-        startTimeHolder.set(startTime);
+    public static void setStartTime(long startNanoTime) {
+        startTimeHolder.set(startNanoTime);
     }
 
     public static String getPath() {
@@ -23,11 +28,11 @@ public class TimeContext {
 
     public static Long getResponseTime() {
         Long startTime = startTimeHolder.get();
-        return startTime != null ? System.currentTimeMillis() - startTime : null;
+        return startTime != null ? (System.nanoTime() - startTime) / NANOS_PER_MILLI : null;
     }
 
     public static void clear() {
         startTimeHolder.remove();
         pathHolder.remove();
     }
-} 
\ No newline at end of file
+}
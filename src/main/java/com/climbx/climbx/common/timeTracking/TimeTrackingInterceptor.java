@@ -2,12 +2,15 @@ package com.climbx.climbx.common.timeTracking;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
-@Slf4j
+/**
+ * 응답 envelope에 담을 처리 시간과 경로를 기록합니다.
+ * <p>
+ * 라우트/상태별 지연시간 분포는 actuator의 http.server.requests 메트릭(/actuator/prometheus)으로 수집합니다.
+ */
 @Component
 public class TimeTrackingInterceptor implements HandlerInterceptor {
 
@@ -22,13 +25,8 @@ public class TimeTrackingInterceptor implements HandlerInterceptor {
         @NonNull
         Object handler
     ) {
-        long startTime = System.currentTimeMillis();
-        String path = request.getRequestURI();
-
-        TimeContext.setStartTime(startTime);
-        TimeContext.setPath(path);
-
-        log.debug("Request started: {} {}", request.getMethod(), path);
+        TimeContext.setStartTime(System.nanoTime());
+        TimeContext.setPath(request.getRequestURI());
         return true;
     }
 
@@ -44,13 +42,6 @@ public class TimeTrackingInterceptor implements HandlerInterceptor {
 
         Exception ex
     ) {
-        Long responseTime = TimeContext.getResponseTime();
-        String path = TimeContext.getPath();
-
-        if (responseTime != null) {
-            log.debug("Request completed: {} {} - {}ms", request.getMethod(), path, responseTime);
-        }
-
         TimeContext.clear();
     }
-} 
\ No newline at end of file
+}
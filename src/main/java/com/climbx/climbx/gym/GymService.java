@@ -22,13 +22,9 @@ public class GymService {
     public List<GymInfoResponseDto> getGymList(String keyword) {
 
         if (keyword == null || keyword.isBlank()) {
-            return gymRepository.findAll().stream()
-                .map(GymInfoResponseDto::from)
-                .toList();
+            return gymRepository.findAllGymInfos();
         }
-        return gymRepository.findAllByNameContainingIgnoreCase(keyword).stream()
-            .map(GymInfoResponseDto::from)
-            .toList();
+        return gymRepository.findAllByNameContainingIgnoreCase(keyword);
     }
 
     public List<GymInfoResponseDto> getGymListByDistance(
@@ -38,13 +34,9 @@ public class GymService {
     ) {
 
         if (keyword == null || keyword.isBlank()) {
-            return gymRepository.findAllByLocationOrderByDistance(latitude, longitude).stream()
-                .map(GymInfoResponseDto::from)
-                .toList();
+            return gymRepository.findAllByLocationOrderByDistance(latitude, longitude);
         }
         return gymRepository.findAllByNameContainingIgnoreCaseOrderByDistance(
-                latitude, longitude, keyword).stream()
-            .map(GymInfoResponseDto::from)
-            .toList();
+            latitude, longitude, keyword);
     }
 }
@@ -1,39 +1,78 @@
 package com.climbx.climbx.gym.repository;
 
+import com.climbx.climbx.common.etag.dto.DataVersion;
+import com.climbx.climbx.gym.dto.GymInfoResponseDto;
 import com.climbx.climbx.gym.entity.GymEntity;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface GymRepository extends JpaRepository<GymEntity, Long> {
 
-    @Query(value =
-        "SELECT *, "
-            + "(6371 * acos(cos(radians(:latitude)) * cos(radians(latitude)) * cos(radians(longitude) - "
-            + "radians(:longitude)) + sin(radians(:latitude)) * sin(radians(latitude)))) AS distance "
-            + "FROM gyms ORDER BY distance ASC",
-        nativeQuery = true
-    )
-    List<GymEntity> findAllByLocationOrderByDistance(
+    /*
+     * 목록 조회용 projection
+     * 응답에 필요한 컬럼만 GymInfoResponseDto 로 바로 조회해 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     */
+    String GYM_INFO_SELECT = """
+        SELECT new com.climbx.climbx.gym.dto.GymInfoResponseDto(
+            g.gymId,
+            g.name,
+            g.latitude,
+            g.longitude,
+            g.address,
+            g.phoneNumber,
+            g.map2dUrl
+        )
+          FROM GymEntity g
+        """;
+
+    String ORDER_BY_DISTANCE = """
+         ORDER BY 6371 * acos(cos(radians(:latitude)) * cos(radians(g.latitude))
+            * cos(radians(g.longitude) - radians(:longitude))
+            + sin(radians(:latitude)) * sin(radians(g.latitude))) ASC
+        """;
+
+    /*
+     * 파생 쿼리의 ContainingIgnoreCase 와 같이 검색어의 %, _ 를 이스케이프해 문자 그대로 검색합니다.
+     */
+    String NAME_CONTAINING = """
+         WHERE LOWER(g.name) LIKE CONCAT('%', LOWER(:#{escape(#keyword)}), '%')
+               ESCAPE :#{escapeCharacter()}
+        """;
+
+    @Query(GYM_INFO_SELECT)
+    List<GymInfoResponseDto> findAllGymInfos();
+
+    @Query(GYM_INFO_SELECT + NAME_CONTAINING)
+    List<GymInfoResponseDto> findAllByNameContainingIgnoreCase(@Param("keyword") String keyword);
+
+    @Query(GYM_INFO_SELECT + ORDER_BY_DISTANCE)
+    List<GymInfoResponseDto> findAllByLocationOrderByDistance(
         @Param("latitude") Double latitude,
         @Param("longitude") Double longitude
     );
 
-    @Query(value =
-        "SELECT *, "
-            + "(6371 * acos(cos(radians(:latitude)) * cos(radians(latitude)) * cos(radians(longitude) - "
-            + "radians(:longitude)) + sin(radians(:latitude)) * sin(radians(latitude)))) AS distance "
-            + "FROM gyms "
-            + "WHERE LOWER(name) LIKE CONCAT('%', LOWER(:keyword), '%') "
-            + "ORDER BY distance ASC",
-        nativeQuery = true
-    )
-    List<GymEntity> findAllByNameContainingIgnoreCaseOrderByDistance(
+    @Query(GYM_INFO_SELECT + NAME_CONTAINING + ORDER_BY_DISTANCE)
+    List<GymInfoResponseDto> findAllByNameContainingIgnoreCaseOrderByDistance(
         @Param("latitude") Double latitude,
         @Param("longitude") Double longitude,
         @Param("keyword") String keyword
     );
 
-    List<GymEntity> findAllByNameContainingIgnoreCase(String keyword);
+    @Query("SELECT g.map2dUrl FROM GymEntity g WHERE g.gymId = :gymId")
+    Optional<String> findMap2dUrlByGymId(@Param("gymId") Long gymId);
+
+    /**
+     * 조건부 요청(ETag) 판단을 위해 gyms 테이블의 버전 정보를 조회합니다.
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.common.etag.dto.DataVersion(
+            COUNT(g),
+            MAX(g.updatedAt)
+        )
+          FROM GymEntity g
+        """)
+    DataVersion findDataVersion();
 }
@@ -1,6 +1,5 @@
 package com.climbx.climbx.problem;
 
-import com.climbx.climbx.gym.entity.GymEntity;
 import com.climbx.climbx.gym.repository.GymRepository;
 import com.climbx.climbx.problem.dto.ProblemInfoInSpotResponseDto;
 import com.climbx.climbx.problem.dto.SpotDetailsResponseDto;
@@ -27,15 +26,12 @@ public class ProblemService {
         String localLevel,
         String holdColor
     ) {
-        // Gym 정보 조회
-        Optional<GymEntity> gym = gymRepository.findById(gymId);
+        // Gym 지도 URL 조회
+        Optional<String> map2dUrl = gymRepository.findMap2dUrlByGymId(gymId);
 
         // 필터링된 문제들 조회
         List<ProblemInfoInSpotResponseDto> problems = problemRepository
-            .findByGym_GymIdAndLocalLevelAndHoldColor(gymId, localLevel, holdColor)
-            .stream()
-            .map(ProblemInfoInSpotResponseDto::from)
-            .toList();
+            .findByGym_GymIdAndLocalLevelAndHoldColor(gymId, localLevel, holdColor);
 
         // 문제들을 spotId로 그룹화
         // {spotId, [problem1, problem2, ...]}
@@ -58,7 +54,7 @@ public class ProblemService {
         // 결과 DTO 반환
         return SpotResponseDto.builder()
             .gymId(gymId)
-            .map2dUrl(gym.map(GymEntity::map2dUrl).orElse(null))
+            .map2dUrl(map2dUrl.orElse(null))
             .spotDetailsResponseDtoList(spotDetailsResponseDtoList)
             .build();
     }
@@ -1,6 +1,7 @@
 package com.climbx.climbx.problem.entity;
 
 import com.climbx.climbx.common.entity.BaseTimeEntity;
+import com.climbx.climbx.common.entity.SoftDeleteTimeEntity;
 import com.climbx.climbx.gym.entity.GymEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -20,8 +21,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@SQLRestriction(SoftDeleteTimeEntity.NOT_DELETED)
 @Table(name = "problems")
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
@@ -1,12 +1,30 @@
 package com.climbx.climbx.problem.repository;
 
+import com.climbx.climbx.common.etag.dto.DataVersion;
+import com.climbx.climbx.problem.dto.ProblemInfoInSpotResponseDto;
 import com.climbx.climbx.problem.entity.ProblemEntity;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ProblemRepository extends JpaRepository<ProblemEntity, Long> {
 
-    List<ProblemEntity> findByGym_GymIdAndLocalLevelAndHoldColor(
+    /**
+     * 문제 스팟 조회. DTO 생성자 파라미터 이름의 컬럼만 조회하는 projection 이므로 엔티티를 만들지 않습니다.
+     */
+    List<ProblemInfoInSpotResponseDto> findByGym_GymIdAndLocalLevelAndHoldColor(
         Long gymId, String localLevel, String holdColor
     );
+
+    /**
+     * 조건부 요청(ETag) 판단을 위해 problems 테이블의 버전 정보를 조회합니다.
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.common.etag.dto.DataVersion(
+            COUNT(p),
+            MAX(p.updatedAt)
+        )
+          FROM ProblemEntity p
+        """)
+    DataVersion findDataVersion();
 }
@@ -4,6 +4,7 @@ import com.climbx.climbx.problem.entity.ProblemEntity;
 import com.climbx.climbx.submission.entity.SubmissionEntity;
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -33,24 +34,42 @@ public interface SubmissionRepository extends JpaRepository<SubmissionEntity, Lo
     /**
      * 사용자가 특정 기간 동안 일별로 푼 문제 수를 조회 from, to가 null이면 모든 기간
      */
+    default List<DailyHistoryResponseDto> getUserDateSolvedCount(
+        Long userId,
+        String status,
+        LocalDate from,
+        LocalDate to
+    ) {
+        return getUserDateSolvedCountBetween(
+            userId,
+            status,
+            from == null ? null : from.atStartOfDay(),
+            to == null ? null : to.plusDays(1).atStartOfDay()
+        );
+    }
+
+    /**
+     * created_at 을 함수로 감싸지 않고 [from, toExclusive) 범위로 비교해 idx_submissions_status_created_at 범위 조회가
+     * 가능하도록 합니다.
+     */
     @Query("""
-        SELECT  new com.climbx.climbx.user.dto.DailyHistoryResponseDto(  
-                DATE(s.createdAt),
-                COUNT(DISTINCT s.problemEntity.problemId)
-            )  
+        SELECT new com.climbx.climbx.user.dto.DailyHistoryResponseDto(
+            DATE(s.createdAt),
+            COUNT(DISTINCT s.problemEntity.problemId)
+        )
           FROM SubmissionEntity s
           JOIN s.videoEntity v
          WHERE v.userId = :userId
            AND s.status = :status
-           AND (:from is NUll OR DATE(s.createdAt) >= :from)
-           AND (:to is NULL OR DATE(s.createdAt) <= :to)
+           AND (:from IS NULL OR s.createdAt >= :from)
+           AND (:toExclusive IS NULL OR s.createdAt < :toExclusive)
          GROUP BY DATE(s.createdAt)
          ORDER BY DATE(s.createdAt) ASC
         """)
-    List<DailyHistoryResponseDto> getUserDateSolvedCount(
+    List<DailyHistoryResponseDto> getUserDateSolvedCountBetween(
         @Param("userId") Long userId,
         @Param("status") String status,
-        @Param("from") LocalDate from,
-        @Param("to") LocalDate to
+        @Param("from") LocalDateTime from,
+        @Param("toExclusive") LocalDateTime toExclusive
     );
 }
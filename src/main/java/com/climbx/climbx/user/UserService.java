@@ -1,10 +1,14 @@
 package com.climbx.climbx.user;
 
+import com.climbx.climbx.archive.ArchiveService;
+import com.climbx.climbx.archive.enums.RollupSource;
 import com.climbx.climbx.common.comcode.ComcodeService;
+import com.climbx.climbx.common.comcode.enums.ComcodeType;
 import com.climbx.climbx.problem.dto.ProblemDetailsResponseDto;
 import com.climbx.climbx.problem.entity.ProblemEntity;
 import com.climbx.climbx.submission.repository.SubmissionRepository;
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.dto.UserProfileDto;
 import com.climbx.climbx.user.dto.UserProfileModifyRequestDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
 import com.climbx.climbx.user.entity.UserAccountEntity;
@@ -18,8 +22,10 @@ import com.climbx.climbx.user.repository.UserRankingHistoryRepository;
 import com.climbx.climbx.user.repository.UserStatRepository;
 import java.time.LocalDate;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,21 +42,22 @@ class UserService {
     private final SubmissionRepository submissionRepository;
     private final UserRankingHistoryRepository userRankingHistoryRepository;
     private final ComcodeService comcodeService;
+    private final ArchiveService archiveService;
 
     @Transactional(readOnly = true)
     public List<UserProfileResponseDto> getUsers(String search) {
-        List<UserAccountEntity> userAccounts;
+        List<UserProfileDto> profiles;
 
-        String userRoleCode = comcodeService.getCodeValue("USER");
+        String userRoleCode = ComcodeType.USER.code();
 
         if (search == null || search.trim().isEmpty()) {
-            userAccounts = userAccountRepository.findByRole(userRoleCode);
+            profiles = userAccountRepository.findProfilesByRole(userRoleCode);
         } else {
-            userAccounts = userAccountRepository.findByRoleAndNicknameContaining(userRoleCode,
-                search.trim());
+            profiles = userAccountRepository.findProfilesByRoleAndNicknameContaining(
+                userRoleCode, search.trim());
         }
 
-        return userAccounts.stream()
+        return profiles.stream()
             .map(this::buildProfile)
             .toList();
     }
@@ -63,8 +70,9 @@ class UserService {
 
     @Transactional(readOnly = true)
     public UserProfileResponseDto getUserByNickname(String nickname) {
-        UserAccountEntity userAccountEntity = findUserByNickname(nickname);
-        return buildProfile(userAccountEntity);
+        UserProfileDto profile = userAccountRepository.findProfileByNickname(nickname)
+            .orElseThrow(() -> new UserNotFoundException(nickname));
+        return buildProfile(profile);
     }
 
     @Transactional
@@ -101,7 +109,7 @@ class UserService {
 
         List<ProblemEntity> problemEntities = submissionRepository.getUserSubmissionProblems(
             userAccount.userId(),
-            comcodeService.getCodeValue("ACCEPTED"),
+            ComcodeType.ACCEPTED.code(),
             pageable
         );
 
@@ -117,13 +125,23 @@ class UserService {
         LocalDate to
     ) {
         UserAccountEntity userAccount = findUserByNickname(nickname);
+        String acceptedCode = ComcodeType.ACCEPTED.code();
 
-        return submissionRepository.getUserDateSolvedCount(
+        List<DailyHistoryResponseDto> history = submissionRepository.getUserDateSolvedCount(
+            userAccount.userId(),
+            acceptedCode,
+            from,
+            to
+        );
+        List<DailyHistoryResponseDto> archived = archiveService.getArchivedDailyHistory(
             userAccount.userId(),
-            comcodeService.getCodeValue("ACCEPTED"),
+            RollupSource.SUBMISSION,
+            acceptedCode,
             from,
             to
         );
+
+        return mergeByDate(archived, history);
     }
 
     @Transactional(readOnly = true)
@@ -136,12 +154,36 @@ class UserService {
         UserAccountEntity userAccount = findUserByNickname(nickname);
         criteria = comcodeService.getCodeValue(criteria);
 
-        return userRankingHistoryRepository.getUserDailyHistory(
+        List<DailyHistoryResponseDto> history = userRankingHistoryRepository.getUserDailyHistory(
+            userAccount.userId(),
+            criteria,
+            from,
+            to
+        );
+        List<DailyHistoryResponseDto> archived = archiveService.getArchivedDailyHistory(
             userAccount.userId(),
+            RollupSource.RANKING_HISTORY,
             criteria,
             from,
             to
         );
+
+        return mergeByDate(archived, history);
+    }
+
+    /**
+     * 보관 처리된 날짜의 집계와 원본 테이블의 일별 히스토리를 날짜순으로 합칩니다. 하루치 데이터는 둘 중 한 곳에만 존재합니다.
+     */
+    private List<DailyHistoryResponseDto> mergeByDate(
+        List<DailyHistoryResponseDto> archived,
+        List<DailyHistoryResponseDto> history
+    ) {
+        if (archived.isEmpty()) {
+            return history;
+        }
+        return Stream.concat(archived.stream(), history.stream())
+            .sorted(Comparator.comparing(DailyHistoryResponseDto::date))
+            .toList();
     }
 
     private UserProfileResponseDto buildProfile(UserAccountEntity userAccount) {
@@ -157,6 +199,16 @@ class UserService {
         );
     }
 
+    private UserProfileResponseDto buildProfile(UserProfileDto profile) {
+        // 통계가 없는 사용자는 LEFT JOIN 결과의 통계 필드가 null
+        if (profile.rating() == null) {
+            throw new UserStatNotFoundException(profile.userId());
+        }
+        Long ratingRank = userStatRepository.findRatingRank(profile.rating());
+
+        return UserProfileResponseDto.from(profile, ratingRank, Collections.emptyMap());
+    }
+
     private UserAccountEntity findUserById(Long userId) {
         return userAccountRepository.findByUserId(userId)
             .orElseThrow(() -> new UserNotFoundException(userId));
@@ -0,0 +1,16 @@
+package com.climbx.climbx.user.dto;
+
+import lombok.Builder;
+
+/**
+ * 랭킹 조회 결과. 정렬 기준 값과 user_id 만 담아 인덱스만으로 조회되도록 합니다. 다음 페이지는 마지막 항목의 (value, userId)를 keyset으로
+ * 전달해 조회합니다.
+ */
+@Builder
+public record RankingEntryDto(
+
+    Long userId,
+    Long value
+) {
+
+}
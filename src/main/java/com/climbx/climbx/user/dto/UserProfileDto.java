@@ -0,0 +1,23 @@
+package com.climbx.climbx.user.dto;
+
+import lombok.Builder;
+
+/**
+ * 프로필 조회용 projection. user_accounts 와 user_stats 를 한 번에 조회해 엔티티를 만들지 않고 필요한 컬럼만 담습니다. 통계 정보가 없는
+ * 사용자는 통계 필드가 null 입니다.
+ */
+@Builder
+public record UserProfileDto(
+
+    Long userId,
+    String nickname,
+    String statusMessage,
+    String profileImageUrl,
+    Long rating,
+    Long currentStreak,
+    Long longestStreak,
+    Long solvedProblemsCount,
+    Long rivalCount
+) {
+
+}
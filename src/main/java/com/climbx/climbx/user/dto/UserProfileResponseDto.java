@@ -48,4 +48,23 @@ public record UserProfileResponseDto(
             .rivalCount(stat.rivalCount())
             .build();
     }
+
+    public static UserProfileResponseDto from(
+        UserProfileDto profile,
+        Long ranking,
+        Map<String, Long> categoryRatings) {
+
+        return UserProfileResponseDto.builder()
+            .nickname(profile.nickname())
+            .statusMessage(profile.statusMessage())
+            .profileImageUrl(profile.profileImageUrl())
+            .ranking(ranking)
+            .rating(profile.rating())
+            .categoryRatings(categoryRatings)
+            .currentStreak(profile.currentStreak())
+            .longestStreak(profile.longestStreak())
+            .solvedProblemsCount(profile.solvedProblemsCount())
+            .rivalCount(profile.rivalCount())
+            .build();
+    }
 }
@@ -2,6 +2,7 @@ package com.climbx.climbx.user.entity;
 
 import com.climbx.climbx.auth.entity.UserAuthEntity;
 import com.climbx.climbx.common.entity.BaseTimeEntity;
+import com.climbx.climbx.common.entity.SoftDeleteTimeEntity;
 import com.climbx.climbx.video.entity.VideoEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,7 +11,6 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
@@ -23,8 +23,10 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.experimental.Accessors;
+import org.hibernate.annotations.SQLRestriction;
 
 @Entity
+@SQLRestriction(SoftDeleteTimeEntity.NOT_DELETED)
 @Table(name = "user_accounts")
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 @AllArgsConstructor(access = lombok.AccessLevel.PRIVATE)
@@ -64,9 +66,6 @@ public class UserAccountEntity extends BaseTimeEntity {
     @Column(name = "last_login_date", nullable = false)
     private LocalDate lastLoginDate = LocalDate.now(); // 마지막 접속 날짜, 기본값은 현재 날짜
 
-    @OneToOne(mappedBy = "userAccountEntity", fetch = FetchType.LAZY, optional = false)
-    private UserStatEntity userStatEntity;
-
     @OneToMany(mappedBy = "userAccountEntity", fetch = FetchType.LAZY)
     private List<VideoEntity> videoEntityList; // 비디오 엔티티와의 관계 (추가 예시)
 
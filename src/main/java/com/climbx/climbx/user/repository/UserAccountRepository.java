@@ -1,9 +1,12 @@
 package com.climbx.climbx.user.repository;
 
+import com.climbx.climbx.user.dto.UserProfileDto;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserAccountRepository extends JpaRepository<UserAccountEntity, Long> {
 
@@ -24,9 +27,42 @@ public interface UserAccountRepository extends JpaRepository<UserAccountEntity,
      */
     Optional<UserAccountEntity> findByEmail(String email);
 
+    /*
+     * 프로필 조회용 projection
+     * 계정과 통계를 한 번의 조회로 가져오며 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+     * 통계가 없는 사용자도 조회되도록 LEFT JOIN 하며, 이 경우 통계 필드는 null 입니다.
+     */
+    String PROFILE_SELECT = """
+        SELECT new com.climbx.climbx.user.dto.UserProfileDto(
+            a.userId,
+            a.nickname,
+            a.statusMessage,
+            a.profileImageUrl,
+            s.rating,
+            s.currentStreak,
+            s.longestStreak,
+            s.solvedProblemsCount,
+            s.rivalCount
+        )
+          FROM UserAccountEntity a
+          LEFT JOIN UserStatEntity s ON s.userId = a.userId
+        """;
+
     // 특정 역할의 사용자들 조회
-    List<UserAccountEntity> findByRole(String role);
+    @Query(PROFILE_SELECT + " WHERE a.role = :role")
+    List<UserProfileDto> findProfilesByRole(@Param("role") String role);
 
     // 특정 역할이면서 닉네임에 특정 문자열을 포함하는 사용자들 조회
-    List<UserAccountEntity> findByRoleAndNicknameContaining(String role, String nickname);
+    // 파생 쿼리의 Containing 과 같이 검색어의 %, _ 를 이스케이프해 문자 그대로 검색합니다.
+    @Query(PROFILE_SELECT + """
+         WHERE a.role = :role
+           AND a.nickname LIKE CONCAT('%', :#{escape(#nickname)}, '%') ESCAPE :#{escapeCharacter()}
+        """)
+    List<UserProfileDto> findProfilesByRoleAndNicknameContaining(
+        @Param("role") String role,
+        @Param("nickname") String nickname
+    );
+
+    @Query(PROFILE_SELECT + " WHERE a.nickname = :nickname")
+    Optional<UserProfileDto> findProfileByNickname(@Param("nickname") String nickname);
 }
@@ -3,6 +3,7 @@ package com.climbx.climbx.user.repository;
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
 import com.climbx.climbx.user.entity.UserRankingHistoryEntity;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,6 +15,23 @@ public interface UserRankingHistoryRepository extends
     /**
      * 사용자가 특정 기간 동안 특정 criteria에 대한 일별 히스토리를 조회
      */
+    default List<DailyHistoryResponseDto> getUserDailyHistory(
+        Long userId,
+        String criteria,
+        LocalDate from,
+        LocalDate to
+    ) {
+        return getUserDailyHistoryBetween(
+            userId,
+            criteria,
+            from == null ? null : from.atStartOfDay(),
+            to == null ? null : to.plusDays(1).atStartOfDay()
+        );
+    }
+
+    /**
+     * created_at 을 함수로 감싸지 않고 [from, toExclusive) 범위로 비교해 월별 파티션 pruning과 인덱스 범위 조회가 가능하도록 합니다.
+     */
     @Query("""
         SELECT new com.climbx.climbx.user.dto.DailyHistoryResponseDto(
             DATE(h.createdAt),
@@ -22,15 +40,15 @@ public interface UserRankingHistoryRepository extends
           FROM UserRankingHistoryEntity h
          WHERE h.userId = :userId
            AND h.part = :criteria
-           AND (:from IS NULL OR DATE(h.createdAt) >= :from)
-           AND (:to IS NULL OR DATE(h.createdAt) <= :to)
-            GROUP BY DATE(h.createdAt)
+           AND (:from IS NULL OR h.createdAt >= :from)
+           AND (:toExclusive IS NULL OR h.createdAt < :toExclusive)
+         GROUP BY DATE(h.createdAt)
          ORDER BY DATE(h.createdAt) ASC
         """)
-    List<DailyHistoryResponseDto> getUserDailyHistory(
+    List<DailyHistoryResponseDto> getUserDailyHistoryBetween(
         @Param("userId") Long userId,
         @Param("criteria") String criteria,
-        @Param("from") LocalDate from,
-        @Param("to") LocalDate to
+        @Param("from") LocalDateTime from,
+        @Param("toExclusive") LocalDateTime toExclusive
     );
 }
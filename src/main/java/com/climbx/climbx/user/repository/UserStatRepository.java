@@ -1,10 +1,13 @@
 package com.climbx.climbx.user.repository;
 
+import com.climbx.climbx.user.dto.RankingEntryDto;
 import com.climbx.climbx.user.entity.UserStatEntity;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserStatRepository extends JpaRepository<UserStatEntity, Long> {
 
@@ -15,17 +18,29 @@ public interface UserStatRepository extends JpaRepository<UserStatEntity, Long>
 
     boolean existsByUserId(Long userId);
 
-    Page<UserStatEntity> findAllByOrderByRatingDesc(Pageable pageable);
-
-    Page<UserStatEntity> findAllByOrderByLongestStreakDesc(Pageable pageable);
-
-    Page<UserStatEntity> findAllByOrderByCurrentStreakDesc(Pageable pageable);
-
-    Page<UserStatEntity> findAllByOrderByRivalCountDesc(Pageable pageable);
+    /**
+     * 첫 페이지 조회 시 keyset 으로 전달하는 값. 모든 값보다 큰 값을 기준으로 삼아 처음부터 조회합니다.
+     */
+    long FIRST_PAGE_VALUE = Long.MAX_VALUE;
 
-    Page<UserStatEntity> findByRatingGreaterThanEqualOrderByRatingDesc(
-        Long minRating,
-        Pageable pageable
+    /*
+     * 레이팅 랭킹(리더보드) keyset 조회
+     * 이전 페이지 마지막 항목의 (rating, userId) 다음부터 limit 개를 조회합니다.
+     * 첫 페이지는 (FIRST_PAGE_VALUE, 0)을 전달합니다.
+     * idx_user_stats_rating (deleted_at, rating DESC, user_id) 인덱스만으로 처리되도록
+     * 정렬 순서를 인덱스와 맞추고 조회 컬럼을 제한합니다.
+     */
+    @Query("""
+        SELECT new com.climbx.climbx.user.dto.RankingEntryDto(s.userId, s.rating)
+        FROM UserStatEntity s
+        WHERE s.rating < :lastValue
+            OR (s.rating = :lastValue AND s.userId > :lastUserId)
+        ORDER BY s.rating DESC, s.userId ASC
+        """)
+    List<RankingEntryDto> findRatingRanking(
+        @Param("lastValue") Long lastValue,
+        @Param("lastUserId") Long lastUserId,
+        Limit limit
     );
 
     /**
@@ -1,53 +1,5 @@
 -- ========================================
--- ComCode (공통 코드) 초기 데이터
--- ========================================
-
--- 토큰 타입 관련 ComCode
-INSERT INTO comcodes (group_code, code, code_name, description, sort_order, created_at, updated_at,
-                      deleted_at)
-VALUES ('TOKEN_TYPE', 'ACCESS', '액세스 토큰', 'JWT 액세스 토큰 타입', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP,
-        NULL),
-       ('TOKEN_TYPE', 'REFRESH', '리프레시 토큰', 'JWT 리프레시 토큰 타입', 2, CURRENT_TIMESTAMP,
-        CURRENT_TIMESTAMP, NULL);
-
--- 사용자 역할 관련 ComCode
-INSERT INTO comcodes (group_code, code, code_name, description, sort_order, created_at, updated_at,
-                      deleted_at)
-VALUES ('USER_ROLE', 'USER', '일반 사용자', '일반 사용자 권한', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, NULL),
-       ('USER_ROLE', 'ADMIN', '관리자', '관리자 권한', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, NULL);
-
--- 제출 상태 관련 ComCode
-INSERT INTO comcodes (group_code, code, code_name, description, sort_order, created_at, updated_at,
-                      deleted_at)
-VALUES ('STATUS', 'PENDING', '검토 대기', '제출된 영상이 검토 대기 중인 상태', 1, CURRENT_TIMESTAMP,
-        CURRENT_TIMESTAMP, NULL),
-       ('STATUS', 'ACCEPTED', '승인됨', '제출된 영상이 승인된 상태', 2, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP,
-        NULL),
-       ('STATUS', 'REJECTED', '거부됨', '제출된 영상이 거부된 상태', 3, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP,
-        NULL);
-
--- 사용자 히스토리 기준 타입 관련 ComCode
-INSERT INTO comcodes (group_code, code, code_name, description, sort_order, created_at, updated_at,
-                      deleted_at)
-VALUES ('USER_HISTORY_CRITERIA', 'RATING', '레이팅', '사용자 레이팅 히스토리', 1, CURRENT_TIMESTAMP,
-        CURRENT_TIMESTAMP, NULL),
-       ('USER_HISTORY_CRITERIA', 'STREAK', '연속 해결', '사용자 연속 문제 해결 히스토리', 2, CURRENT_TIMESTAMP,
-        CURRENT_TIMESTAMP, NULL),
-       ('USER_HISTORY_CRITERIA', 'SOLVED_COUNT', '해결 문제 수', '사용자 해결한 총 문제 수 히스토리', 3,
-        CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, NULL);
-
--- OAuth2 제공자 타입 관련 ComCode
-INSERT INTO comcodes (group_code, code, code_name, description, sort_order, created_at, updated_at,
-                      deleted_at)
-VALUES ('OAUTH2_PROVIDER', 'KAKAO', '카카오', '카카오 OAuth2 인증 제공자', 1, CURRENT_TIMESTAMP,
-        CURRENT_TIMESTAMP, NULL),
-       ('OAUTH2_PROVIDER', 'GOOGLE', '구글', '구글 OAuth2 인증 제공자', 2, CURRENT_TIMESTAMP,
-        CURRENT_TIMESTAMP, NULL),
-       ('OAUTH2_PROVIDER', 'APPLE', '애플', '애플 OAuth2 인증 제공자', 3, CURRENT_TIMESTAMP,
-        CURRENT_TIMESTAMP, NULL);
-
--- ========================================
--- 기존 사용자 및 관련 데이터
+-- 개발용 샘플 데이터 (공통 코드는 db/migration/V5__seed_comcodes.sql 에서 추가)
 -- ========================================
 
 INSERT INTO user_accounts (role,
@@ -0,0 +1,147 @@
+-- ========================================
+-- 초기 스키마 (엔티티 매핑 기준)
+-- Hibernate ddl-auto로 생성된 기존 DB는 baseline(V1)으로 등록되어 이 스크립트를 건너뜀
+-- ========================================
+
+CREATE TABLE comcodes
+(
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    group_code  VARCHAR(50)  NOT NULL,
+    code        VARCHAR(50)  NOT NULL,
+    code_name   VARCHAR(100) NOT NULL,
+    description VARCHAR(255),
+    sort_order  INT          NOT NULL DEFAULT 0,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_accounts
+(
+    user_id           BIGINT       NOT NULL AUTO_INCREMENT,
+    role              VARCHAR(20)  NOT NULL,
+    nickname          VARCHAR(50)  NOT NULL,
+    email             VARCHAR(100),
+    status_message    VARCHAR(100),
+    profile_image_url VARCHAR(255),
+    last_login_date   DATE         NOT NULL,
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    deleted_at        DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT uk_user_accounts_nickname UNIQUE (nickname)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_stats
+(
+    user_id               BIGINT NOT NULL,
+    rating                BIGINT NOT NULL,
+    current_streak        BIGINT NOT NULL,
+    longest_streak        BIGINT NOT NULL,
+    solved_problems_count BIGINT NOT NULL,
+    rival_count           BIGINT NOT NULL,
+    created_at            DATETIME(6),
+    updated_at            DATETIME(6),
+    deleted_at            DATETIME(6),
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_user_stats_user_account
+        FOREIGN KEY (user_id) REFERENCES user_accounts (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE user_auths
+(
+    auth_id        BIGINT         NOT NULL AUTO_INCREMENT,
+    user_id        BIGINT         NOT NULL,
+    provider       ENUM ('KAKAO') NOT NULL,
+    provider_id    VARCHAR(100)   NOT NULL,
+    provider_email VARCHAR(100),
+    is_primary     BIT            NOT NULL,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    deleted_at     DATETIME(6),
+    PRIMARY KEY (auth_id),
+    CONSTRAINT uk_user_auths_provider_id UNIQUE (provider, provider_id),
+    CONSTRAINT uk_user_auths_user_provider UNIQUE (user_id, provider),
+    CONSTRAINT fk_user_auths_user_account
+        FOREIGN KEY (user_id) REFERENCES user_accounts (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE gyms
+(
+    gym_id       BIGINT      NOT NULL AUTO_INCREMENT,
+    name         VARCHAR(30) NOT NULL,
+    latitude     DOUBLE,
+    longitude    DOUBLE,
+    address      VARCHAR(100),
+    phone_number VARCHAR(30),
+    map_2d_url   VARCHAR(255),
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    deleted_at   DATETIME(6),
+    PRIMARY KEY (gym_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE problems
+(
+    problem_id     BIGINT      NOT NULL AUTO_INCREMENT,
+    gym_id         BIGINT      NOT NULL,
+    local_level    VARCHAR(20) NOT NULL,
+    hold_color     VARCHAR(20) NOT NULL,
+    problem_rating BIGINT      NOT NULL,
+    spot_id        BIGINT      NOT NULL,
+    spot_x_ratio   DOUBLE      NOT NULL,
+    spot_y_ratio   DOUBLE      NOT NULL,
+    image_url      VARCHAR(255),
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    deleted_at     DATETIME(6),
+    PRIMARY KEY (problem_id),
+    KEY idx_problems_gym_id (gym_id),
+    CONSTRAINT fk_problems_gym
+        FOREIGN KEY (gym_id) REFERENCES gyms (gym_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE videos
+(
+    video_id   BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (video_id),
+    KEY idx_videos_user_id (user_id),
+    CONSTRAINT fk_videos_user_account
+        FOREIGN KEY (user_id) REFERENCES user_accounts (user_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE submissions
+(
+    video_id      BIGINT      NOT NULL,
+    problem_id    BIGINT      NOT NULL,
+    status        VARCHAR(20) NOT NULL,
+    reject_reason VARCHAR(255),
+    appeal_status VARCHAR(20),
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    deleted_at    DATETIME(6),
+    PRIMARY KEY (video_id),
+    KEY idx_submissions_problem_id (problem_id),
+    CONSTRAINT fk_submissions_video
+        FOREIGN KEY (video_id) REFERENCES videos (video_id),
+    CONSTRAINT fk_submissions_problem
+        FOREIGN KEY (problem_id) REFERENCES problems (problem_id)
+) ENGINE = InnoDB;
+
+-- 월별 파티션 전환을 위해 외래 키를 두지 않음 (RankingHistoryPartitionScheduler)
+CREATE TABLE user_ranking_histories
+(
+    history_id BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    part       VARCHAR(20) NOT NULL,
+    `value`    BIGINT      NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    deleted_at DATETIME(6),
+    PRIMARY KEY (history_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,16 @@
+-- 보관(archive) 처리된 날짜의 사용자별 일별 집계
+CREATE TABLE user_daily_rollups
+(
+    rollup_id   BIGINT                                 NOT NULL AUTO_INCREMENT,
+    user_id     BIGINT                                 NOT NULL,
+    source      ENUM ('RANKING_HISTORY', 'SUBMISSION') NOT NULL,
+    part        VARCHAR(20)                            NOT NULL,
+    rollup_date DATE                                   NOT NULL,
+    `value`     BIGINT                                 NOT NULL,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    deleted_at  DATETIME(6),
+    PRIMARY KEY (rollup_id),
+    CONSTRAINT uk_user_daily_rollups_user_source_part_date
+        UNIQUE (user_id, source, part, rollup_date)
+) ENGINE = InnoDB;
@@ -0,0 +1,23 @@
+-- ========================================
+-- 조회 성능을 위한 보조 인덱스
+-- 삭제되지 않은 행만 읽는 조회는 deleted_at 을 선두 컬럼으로 둠 (MySQL은 partial index 미지원)
+-- ========================================
+
+-- UserAccountRepository.findByRole
+CREATE INDEX idx_user_accounts_live_role ON user_accounts (deleted_at, role);
+
+-- ProblemRepository.findByGym_GymIdAndLocalLevelAndHoldColor
+CREATE INDEX idx_problems_live_gym_level_color
+    ON problems (deleted_at, gym_id, local_level, hold_color);
+
+-- UserStatRepository 레이팅 순위/정렬
+CREATE INDEX idx_user_stats_rating ON user_stats (rating);
+
+-- 상태별 제출 목록, 보관 처리 시 날짜 범위 조회
+CREATE INDEX idx_submissions_status_created_at ON submissions (status, created_at);
+CREATE INDEX idx_submissions_created_at ON submissions (created_at);
+
+-- UserRankingHistoryRepository.getUserDailyHistoryBetween, 보관 처리 시 날짜 범위 조회
+CREATE INDEX idx_user_ranking_histories_user_part_created_at
+    ON user_ranking_histories (user_id, part, created_at);
+CREATE INDEX idx_user_ranking_histories_created_at ON user_ranking_histories (created_at);
@@ -0,0 +1,10 @@
+-- ========================================
+-- 레이팅 랭킹(리더보드) 인덱스
+-- (deleted_at, rating DESC, user_id) 순서로 두어 keyset 조회가 정렬 없이 인덱스만 읽고 끝나도록 함
+-- 순위 계산(rating > ? 개수)도 같은 인덱스의 범위 조회로 처리됨
+-- 다른 정렬 기준(스트릭, 해결 문제 수 등)은 조회 쿼리를 추가할 때 인덱스도 함께 추가
+-- ========================================
+
+DROP INDEX idx_user_stats_rating ON user_stats;
+
+CREATE INDEX idx_user_stats_rating ON user_stats (deleted_at, rating DESC, user_id);
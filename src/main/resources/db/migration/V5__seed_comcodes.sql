@@ -0,0 +1,47 @@
+-- ========================================
+-- ComCode (공통 코드) 기본 데이터
+-- ComcodeTypeValidator 가 기동 시 ComcodeType 과 대조하므로 모든 환경에 필요함
+-- baseline-on-migrate 로 등록된 기존 DB에는 이미 코드가 있을 수 있으므로 없는 코드만 추가함
+-- ========================================
+
+INSERT INTO comcodes (group_code, code, code_name, description, sort_order, created_at, updated_at,
+                      deleted_at)
+SELECT seed.group_code, seed.code, seed.code_name, seed.description, seed.sort_order,
+       CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, NULL
+  FROM (
+           -- 토큰 타입 관련 ComCode
+           SELECT 'TOKEN_TYPE' AS group_code, 'ACCESS' AS code, '액세스 토큰' AS code_name,
+                  'JWT 액세스 토큰 타입' AS description, 1 AS sort_order
+           UNION ALL
+           SELECT 'TOKEN_TYPE', 'REFRESH', '리프레시 토큰', 'JWT 리프레시 토큰 타입', 2
+           -- 사용자 역할 관련 ComCode
+           UNION ALL
+           SELECT 'USER_ROLE', 'USER', '일반 사용자', '일반 사용자 권한', 1
+           UNION ALL
+           SELECT 'USER_ROLE', 'ADMIN', '관리자', '관리자 권한', 2
+           -- 제출 상태 관련 ComCode
+           UNION ALL
+           SELECT 'STATUS', 'PENDING', '검토 대기', '제출된 영상이 검토 대기 중인 상태', 1
+           UNION ALL
+           SELECT 'STATUS', 'ACCEPTED', '승인됨', '제출된 영상이 승인된 상태', 2
+           UNION ALL
+           SELECT 'STATUS', 'REJECTED', '거부됨', '제출된 영상이 거부된 상태', 3
+           -- 사용자 히스토리 기준 타입 관련 ComCode
+           UNION ALL
+           SELECT 'USER_HISTORY_CRITERIA', 'RATING', '레이팅', '사용자 레이팅 히스토리', 1
+           UNION ALL
+           SELECT 'USER_HISTORY_CRITERIA', 'STREAK', '연속 해결', '사용자 연속 문제 해결 히스토리', 2
+           UNION ALL
+           SELECT 'USER_HISTORY_CRITERIA', 'SOLVED_COUNT', '해결 문제 수', '사용자 해결한 총 문제 수 히스토리', 3
+           -- OAuth2 제공자 타입 관련 ComCode
+           UNION ALL
+           SELECT 'OAUTH2_PROVIDER', 'KAKAO', '카카오', '카카오 OAuth2 인증 제공자', 1
+           UNION ALL
+           SELECT 'OAUTH2_PROVIDER', 'GOOGLE', '구글', '구글 OAuth2 인증 제공자', 2
+           UNION ALL
+           SELECT 'OAUTH2_PROVIDER', 'APPLE', '애플', '애플 OAuth2 인증 제공자', 3
+       ) seed
+ WHERE NOT EXISTS (SELECT 1
+                     FROM comcodes c
+                    WHERE c.group_code = seed.group_code
+                      AND c.code = seed.code);
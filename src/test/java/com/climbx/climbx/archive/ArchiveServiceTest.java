@@ -0,0 +1,109 @@
+package com.climbx.climbx.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import com.climbx.climbx.archive.enums.RollupSource;
+import com.climbx.climbx.archive.repository.ArchiveJdbcRepository;
+import com.climbx.climbx.archive.repository.UserDailyRollupRepository;
+import com.climbx.climbx.fixture.UserFixture;
+import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveServiceTest {
+
+    private static final int RETENTION_DAYS = 365;
+
+    @Mock
+    private ArchiveJdbcRepository archiveJdbcRepository;
+
+    @Mock
+    private UserDailyRollupRepository userDailyRollupRepository;
+
+    private ArchiveService archiveService;
+
+    @BeforeEach
+    void setUp() {
+        archiveService = new ArchiveService(archiveJdbcRepository, userDailyRollupRepository,
+            RETENTION_DAYS);
+    }
+
+    @Nested
+    @DisplayName("보관된 일별 히스토리 조회")
+    class GetArchivedDailyHistory {
+
+        @Test
+        @DisplayName("조회 시작일이 보관 기준일 이후면 집계를 조회하지 않는다")
+        void shouldSkipRollupsWhenRangeIsWithinRetention() {
+            // given
+            LocalDate from = LocalDate.now().minusDays(30);
+
+            // when
+            List<DailyHistoryResponseDto> result = archiveService.getArchivedDailyHistory(
+                1L, RollupSource.SUBMISSION, "ACCEPTED", from, null);
+
+            // then
+            assertThat(result).isEmpty();
+            then(userDailyRollupRepository).should(never())
+                .findDailyHistory(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("조회 범위가 보관 기준일 이전을 포함하면 집계를 조회한다")
+        void shouldReadRollupsWhenRangeIncludesArchivedDays() {
+            // given
+            LocalDate from = LocalDate.now().minusDays(RETENTION_DAYS + 10);
+            List<DailyHistoryResponseDto> rollups = List.of(
+                UserFixture.createDailyHistoryResponseDto(from, 3L)
+            );
+            given(userDailyRollupRepository.findDailyHistory(1L, RollupSource.RANKING_HISTORY,
+                "RATING", from, null))
+                .willReturn(rollups);
+
+            // when
+            List<DailyHistoryResponseDto> result = archiveService.getArchivedDailyHistory(
+                1L, RollupSource.RANKING_HISTORY, "RATING", from, null);
+
+            // then
+            assertThat(result).isEqualTo(rollups);
+        }
+    }
+
+    @Nested
+    @DisplayName("하루치 보관 처리")
+    class ArchiveDay {
+
+        @Test
+        @DisplayName("원본 행을 옮기기 전에 집계를 먼저 남긴다")
+        void shouldRollupBeforeMovingRows() {
+            // given
+            LocalDate day = LocalDate.of(2024, 1, 1);
+            given(archiveJdbcRepository.moveToArchive(ArchiveJdbcRepository.SUBMISSION_TABLE, day))
+                .willReturn(42);
+
+            // when
+            int moved = archiveService.archiveSubmissions(day);
+
+            // then
+            assertThat(moved).isEqualTo(42);
+            InOrder inOrder = inOrder(archiveJdbcRepository);
+            inOrder.verify(archiveJdbcRepository).rollupSubmissions(day);
+            inOrder.verify(archiveJdbcRepository)
+                .moveToArchive(ArchiveJdbcRepository.SUBMISSION_TABLE, day);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.climbx.climbx.archive;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.climbx.climbx.archive.repository.PartitionJdbcRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RankingHistoryPartitionSchedulerTest {
+
+    private static final String TABLE = "user_ranking_histories";
+    private static final YearMonth CURRENT_MONTH = YearMonth.of(2025, 3);
+
+    @Mock
+    private PartitionJdbcRepository partitionJdbcRepository;
+
+    @Mock
+    private ArchiveService archiveService;
+
+    private RankingHistoryPartitionScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new RankingHistoryPartitionScheduler(partitionJdbcRepository, archiveService,
+            2);
+    }
+
+    @Nested
+    @DisplayName("인스턴스 간 중복 실행 방지")
+    class Lock {
+
+        @Test
+        @DisplayName("named lock 을 잡으면 파티션 관리를 실행한다")
+        void shouldMaintainWhenLockAcquired() {
+            // given
+            given(partitionJdbcRepository.runWithLock(anyString(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(1).run();
+                    return true;
+                });
+            given(archiveService.cutoffDate()).willReturn(LocalDate.of(2024, 3, 1));
+            given(partitionJdbcRepository.findPartitionNames(TABLE))
+                .willReturn(List.of("p_future"));
+
+            // when
+            scheduler.maintain();
+
+            // then
+            then(partitionJdbcRepository).should().findPartitionNames(TABLE);
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 named lock 을 가지고 있으면 아무것도 하지 않는다")
+        void shouldSkipWhenLockHeldByAnotherInstance() {
+            // given
+            given(partitionJdbcRepository.runWithLock(anyString(), any())).willReturn(false);
+
+            // when
+            scheduler.maintain();
+
+            // then
+            then(partitionJdbcRepository).should(never()).findPartitionNames(anyString());
+            then(partitionJdbcRepository).should(never())
+                .partitionByMonth(anyString(), anyString(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("파티셔닝되지 않은 테이블")
+    class Unpartitioned {
+
+        @Test
+        @DisplayName("가장 오래된 행의 월부터 미리 만들 월까지 파티션으로 전환한다")
+        void shouldPartitionFromOldestMonth() {
+            // given
+            given(partitionJdbcRepository.findPartitionNames(TABLE)).willReturn(List.of());
+            given(partitionJdbcRepository.findOldestMonth(TABLE)).willReturn(YearMonth.of(2025, 1));
+
+            // when
+            scheduler.maintain(CURRENT_MONTH, LocalDate.of(2024, 3, 1));
+
+            // then
+            then(partitionJdbcRepository).should().partitionByMonth(TABLE, "history_id", List.of(
+                YearMonth.of(2025, 1),
+                YearMonth.of(2025, 2),
+                YearMonth.of(2025, 3),
+                YearMonth.of(2025, 4),
+                YearMonth.of(2025, 5)
+            ));
+        }
+    }
+
+    @Nested
+    @DisplayName("월별 파티션 테이블")
+    class Partitioned {
+
+        @Test
+        @DisplayName("부족한 다음 월 파티션을 p_future 에서 나누어 추가한다")
+        void shouldAddUpcomingMonths() {
+            // given
+            given(partitionJdbcRepository.findPartitionNames(TABLE))
+                .willReturn(List.of("p202502", "p202503", "p_future"));
+
+            // when
+            scheduler.maintain(CURRENT_MONTH, LocalDate.of(2024, 3, 1));
+
+            // then
+            then(partitionJdbcRepository).should().addMonths(TABLE, List.of(
+                YearMonth.of(2025, 4),
+                YearMonth.of(2025, 5)
+            ));
+            then(partitionJdbcRepository).should(never()).dropPartition(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("보관 기준일이 지난 파티션은 비어 있을 때만 제거한다")
+        void shouldDropOnlyEmptyExpiredPartitions() {
+            // given
+            given(partitionJdbcRepository.findPartitionNames(TABLE)).willReturn(List.of(
+                "p202501", "p202502", "p202503", "p202504", "p202505", "p_future"));
+            given(partitionJdbcRepository.isEmpty(TABLE, "p202501")).willReturn(true);
+            given(partitionJdbcRepository.isEmpty(TABLE, "p202502")).willReturn(false);
+
+            // when
+            scheduler.maintain(CURRENT_MONTH, LocalDate.of(2025, 3, 15));
+
+            // then
+            then(partitionJdbcRepository).should().dropPartition(TABLE, "p202501");
+            then(partitionJdbcRepository).should(never()).dropPartition(TABLE, "p202502");
+            then(partitionJdbcRepository).should(never()).addMonths(eq(TABLE), any());
+        }
+    }
+}
@@ -16,15 +16,16 @@ import com.climbx.climbx.auth.dto.TokenGenerationResponseDto;
 import com.climbx.climbx.auth.dto.ValidatedTokenInfoDto;
 import com.climbx.climbx.auth.entity.UserAuthEntity;
 import com.climbx.climbx.auth.enums.OAuth2ProviderType;
+import com.climbx.climbx.auth.exception.WithdrawnUserException;
 import com.climbx.climbx.auth.provider.ProviderIdTokenService;
 import com.climbx.climbx.auth.repository.UserAuthRepository;
 import com.climbx.climbx.auth.service.NonceService;
 import com.climbx.climbx.auth.service.RefreshTokenBlacklistService;
-import com.climbx.climbx.common.comcode.ComcodeService;
 import com.climbx.climbx.common.security.JwtContext;
 import com.climbx.climbx.common.security.dto.JwtTokenInfo;
 import com.climbx.climbx.common.security.exception.InvalidTokenException;
 import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.entity.UserStatEntity;
 import com.climbx.climbx.user.repository.UserAccountRepository;
 import com.climbx.climbx.user.repository.UserStatRepository;
 import java.util.Optional;
@@ -40,9 +41,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @DisplayName("AuthService 테스트")
 class AuthServiceTest {
 
-    @Mock
-    private ComcodeService comcodeService;
-
     @Mock
     private JwtContext jwtContext;
 
@@ -93,7 +91,7 @@ class AuthServiceTest {
                 .expiresIn(3600L)
                 .build();
 
-            given(userAuthRepository.findByProviderAndProviderId(
+            given(userAuthRepository.findWithUserAccountByProviderAndProviderId(
                 OAuth2ProviderType.KAKAO, "12345")
             ).willReturn(Optional.of(userAuth));
             given(providerIdTokenService.verifyIdToken("kakao", "valid-id-token",
@@ -123,14 +121,17 @@ class AuthServiceTest {
 
             then(providerIdTokenService).should()
                 .verifyIdToken("kakao", "valid-id-token", "test-nonce");
+            // 기존 사용자는 인증 정보 조회 한 번으로 처리되고 추가 조회/저장이 없다
+            then(userAccountRepository).shouldHaveNoInteractions();
+            then(userStatRepository).shouldHaveNoInteractions();
+            then(userAuthRepository).should(never()).save(any());
         }
 
         @Test
         @DisplayName("존재하지 않는 사용자인 경우 새 사용자를 생성한다")
         void shouldCreateNewUserWhenUserNotFound() {
             // given
-            given(comcodeService.getCodeValue("USER")).willReturn("USER");
-            given(userAuthRepository.findByProviderAndProviderId(
+            given(userAuthRepository.findWithUserAccountByProviderAndProviderId(
                 OAuth2ProviderType.KAKAO, "67890")
             ).willReturn(Optional.empty());
             given(userAccountRepository.save(any())).willAnswer(invocation -> {
@@ -174,6 +175,43 @@ class AuthServiceTest {
 
             then(providerIdTokenService).should()
                 .verifyIdToken("kakao", "valid-id-token", "test-nonce");
+            then(userAccountRepository).should().save(any(UserAccountEntity.class));
+            then(userAuthRepository).should().save(any(UserAuthEntity.class));
+            then(userStatRepository).should().save(any(UserStatEntity.class));
+        }
+
+        @Test
+        @DisplayName("탈퇴한 사용자의 인증 정보가 남아 있으면 새 사용자를 만들지 않고 예외를 던진다")
+        void shouldRejectWithdrawnUser() {
+            // given
+            given(userAuthRepository.findWithUserAccountByProviderAndProviderId(
+                OAuth2ProviderType.KAKAO, "13579")
+            ).willReturn(Optional.empty());
+            given(userAuthRepository.countIncludingDeletedByProviderAndProviderId(
+                "KAKAO", "13579")
+            ).willReturn(1L);
+            given(providerIdTokenService.verifyIdToken("kakao", "valid-id-token",
+                "test-nonce")).willReturn(
+                ValidatedTokenInfoDto.builder()
+                    .providerId("13579")
+                    .email("withdrawn@example.com")
+                    .nickname("탈퇴유저")
+                    .build()
+            );
+
+            CallbackRequestDto request = CallbackRequestDto.builder()
+                .idToken("valid-id-token")
+                .nonce("test-nonce")
+                .build();
+
+            // when & then
+            assertThatThrownBy(() -> authService.handleCallback("kakao", request))
+                .isInstanceOf(WithdrawnUserException.class);
+
+            then(userAccountRepository).should(never()).save(any());
+            then(userAuthRepository).should(never()).save(any());
+            then(userStatRepository).should(never()).save(any());
+            then(jwtContext).shouldHaveNoInteractions();
         }
     }
 
@@ -187,7 +225,6 @@ class AuthServiceTest {
             // given
             doNothing().when(refreshTokenBlacklistService)
                 .validateTokenNotBlacklisted("valid-refresh-token");
-            given(comcodeService.getCodeValue("REFRESH")).willReturn("REFRESH");
             JwtTokenInfo tokenInfo = JwtTokenInfo.builder()
                 .userId(3L)
                 .role("USER")
@@ -232,7 +269,6 @@ class AuthServiceTest {
             // given
             doNothing().when(refreshTokenBlacklistService)
                 .validateTokenNotBlacklisted("access-token");
-            given(comcodeService.getCodeValue("REFRESH")).willReturn("REFRESH");
 
             JwtTokenInfo tokenInfo = JwtTokenInfo.builder()
                 .userId(1L)
@@ -257,7 +293,6 @@ class AuthServiceTest {
             // given
             doNothing().when(refreshTokenBlacklistService)
                 .validateTokenNotBlacklisted("valid-refresh-token");
-            given(comcodeService.getCodeValue("REFRESH")).willReturn("REFRESH");
 
             JwtTokenInfo tokenInfo = JwtTokenInfo.builder()
                 .userId(999L)
@@ -0,0 +1,184 @@
+package com.climbx.climbx.auth.provider.jwks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.web.client.RestTemplate;
+
+@DisplayName("ProviderJwksManager 테스트")
+class ProviderJwksManagerTest {
+
+    private static final String PROVIDER = "kakao";
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicReference<String> jwksBody = new AtomicReference<>();
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+
+    private HttpServer jwksServer;
+    private String jwksUri;
+    private RSAKey firstKey;
+    private RSAKey rotatedKey;
+
+    @BeforeEach
+    void setUp() throws IOException, JOSEException {
+        firstKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        rotatedKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        jwksBody.set(new JWKSet(firstKey.toPublicJWK()).toString());
+
+        // 로컬 stub JWKS 엔드포인트
+        jwksServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        jwksServer.createContext("/jwks", exchange -> {
+            requestCount.incrementAndGet();
+            byte[] body = jwksBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus.get(), body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        jwksServer.start();
+        jwksUri = "http://127.0.0.1:" + jwksServer.getAddress().getPort() + "/jwks";
+    }
+
+    @AfterEach
+    void tearDown() {
+        jwksServer.stop(0);
+    }
+
+    private ProviderJwksManager createManager(Duration missRefreshCooldown) {
+        return new ProviderJwksManager(new RestTemplate(), missRefreshCooldown);
+    }
+
+    private String signIdToken(RSAKey key) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject("provider-user")
+            .issueTime(new Date())
+            .expirationTime(new Date(System.currentTimeMillis() + 60_000))
+            .build();
+        SignedJWT signedJwt = new SignedJWT(
+            new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+            claims
+        );
+        signedJwt.sign(new RSASSASigner(key));
+        return signedJwt.serialize();
+    }
+
+    @Nested
+    @DisplayName("JWKS prefetch 테스트")
+    class PrefetchTest {
+
+        @Test
+        @DisplayName("decoder 생성 시 JWKS를 미리 받아오고 검증 시에는 HTTP 요청을 하지 않는다")
+        void shouldPrefetchJwksOnCreation() throws JOSEException {
+            // given
+            ProviderJwksManager manager = createManager(Duration.ofHours(1));
+
+            // when
+            NimbusJwtDecoder decoder = manager.createDecoder(PROVIDER, jwksUri, JWSAlgorithm.RS256);
+
+            // then
+            assertThat(requestCount.get()).isEqualTo(1);
+            assertThat(manager.getKeyCounts()).containsEntry(PROVIDER, 1);
+
+            Jwt first = decoder.decode(signIdToken(firstKey));
+            Jwt second = decoder.decode(signIdToken(firstKey));
+            assertThat(first.getSubject()).isEqualTo("provider-user");
+            assertThat(second.getSubject()).isEqualTo("provider-user");
+            assertThat(requestCount.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("prefetch에 실패해도 decoder 생성은 성공한다")
+        void shouldCreateDecoderWhenPrefetchFails() {
+            // given
+            responseStatus.set(500);
+            ProviderJwksManager manager = createManager(Duration.ofHours(1));
+
+            // when & then
+            assertThatCode(() -> manager.createDecoder(PROVIDER, jwksUri, JWSAlgorithm.RS256))
+                .doesNotThrowAnyException();
+            assertThat(manager.getKeyCounts()).containsEntry(PROVIDER, 0);
+        }
+    }
+
+    @Nested
+    @DisplayName("JWKS 갱신 테스트")
+    class RefreshTest {
+
+        @Test
+        @DisplayName("백그라운드 갱신 후에는 교체된 키로 서명된 토큰을 HTTP 요청 없이 검증한다")
+        void shouldServeRotatedKeyAfterBackgroundRefresh() throws JOSEException {
+            // given
+            ProviderJwksManager manager = createManager(Duration.ofHours(1));
+            NimbusJwtDecoder decoder = manager.createDecoder(PROVIDER, jwksUri, JWSAlgorithm.RS256);
+            jwksBody.set(new JWKSet(rotatedKey.toPublicJWK()).toString());
+
+            // when
+            manager.refreshAll();
+
+            // then
+            assertThat(requestCount.get()).isEqualTo(2);
+            assertThat(decoder.decode(signIdToken(rotatedKey)).getSubject())
+                .isEqualTo("provider-user");
+            assertThat(requestCount.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("알 수 없는 kid를 만나면 cooldown이 지난 경우에만 즉시 갱신한다")
+        void shouldRefreshOnUnknownKeyIdOnlyAfterCooldown() throws JOSEException {
+            // given
+            ProviderJwksManager manager = createManager(Duration.ZERO);
+            NimbusJwtDecoder decoder = manager.createDecoder(PROVIDER, jwksUri, JWSAlgorithm.RS256);
+            jwksBody.set(new JWKSet(rotatedKey.toPublicJWK()).toString());
+
+            // when
+            Jwt jwt = decoder.decode(signIdToken(rotatedKey));
+
+            // then
+            assertThat(jwt.getSubject()).isEqualTo("provider-user");
+            assertThat(requestCount.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("cooldown 안에서는 알 수 없는 kid에 대해 JWKS를 다시 요청하지 않는다")
+        void shouldNotRefreshWithinCooldown() throws JOSEException {
+            // given
+            ProviderJwksManager manager = createManager(Duration.ofHours(1));
+            NimbusJwtDecoder decoder = manager.createDecoder(PROVIDER, jwksUri, JWSAlgorithm.RS256);
+            jwksBody.set(new JWKSet(rotatedKey.toPublicJWK()).toString());
+            String rotatedToken = signIdToken(rotatedKey);
+
+            // when & then
+            assertThatThrownBy(() -> decoder.decode(rotatedToken))
+                .isInstanceOf(BadJwtException.class);
+            assertThat(requestCount.get()).isEqualTo(1);
+        }
+    }
+}
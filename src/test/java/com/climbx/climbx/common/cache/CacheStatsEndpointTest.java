@@ -0,0 +1,71 @@
+package com.climbx.climbx.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.climbx.climbx.auth.provider.exception.InvalidNonceException;
+import com.climbx.climbx.auth.service.NonceService;
+import com.climbx.climbx.common.cache.dto.CacheStatsResponseDto;
+import com.climbx.climbx.common.config.CacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CacheStatsEndpoint 테스트")
+class CacheStatsEndpointTest {
+
+    private final CacheConfig cacheConfig = new CacheConfig();
+
+    private Cache<String, Boolean> usedNonces;
+    private Cache<String, String> catalogVersion;
+    private CacheStatsEndpoint cacheStatsEndpoint;
+
+    @BeforeEach
+    void setUp() {
+        usedNonces = cacheConfig.usedNonces();
+        catalogVersion = cacheConfig.catalogVersion(Duration.ofSeconds(5));
+        cacheStatsEndpoint = new CacheStatsEndpoint(Map.of(
+            "usedNonces", usedNonces,
+            "catalogVersion", catalogVersion
+        ));
+    }
+
+    @Test
+    @DisplayName("등록된 모든 캐시의 크기, 적중률, 로드 횟수를 캐시 이름별로 반환한다")
+    void shouldReturnStatsForAllCaches() {
+        // given
+        // 서비스와 같은 경로로 nonce를 등록해 통계가 실제로 쌓이는지 확인
+        NonceService nonceService = new NonceService(usedNonces);
+        nonceService.validateAndUseNonce("nonce-1");
+        assertThatThrownBy(() -> nonceService.validateAndUseNonce("nonce-1"))
+            .isInstanceOf(InvalidNonceException.class);
+        catalogVersion.get("catalog", key -> "1:2025-01-01T00:00");
+        catalogVersion.get("catalog", key -> "1:2025-01-01T00:00");
+
+        // when
+        Map<String, CacheStatsResponseDto> stats = cacheStatsEndpoint.cacheStats();
+
+        // then
+        assertThat(stats).containsOnlyKeys("catalogVersion", "usedNonces");
+        assertThat(stats.get("usedNonces").estimatedSize()).isEqualTo(1);
+        assertThat(stats.get("usedNonces").requestCount()).isEqualTo(2);
+        assertThat(stats.get("usedNonces").hitRatio()).isEqualTo(0.5);
+        assertThat(stats.get("catalogVersion").loadCount()).isEqualTo(1);
+        assertThat(stats.get("catalogVersion").hitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("이름으로 단일 캐시를 조회하고, 없는 이름이면 null을 반환한다")
+    void shouldReturnStatsByName() {
+        // when
+        CacheStatsResponseDto found = cacheStatsEndpoint.cacheStats("usedNonces");
+        CacheStatsResponseDto notFound = cacheStatsEndpoint.cacheStats("unknown");
+
+        // then
+        assertThat(found).isNotNull();
+        assertThat(notFound).isNull();
+    }
+}
@@ -2,14 +2,22 @@ package com.climbx.climbx.common.comcode;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 import com.climbx.climbx.common.comcode.dto.ComcodeDto;
+import com.climbx.climbx.common.comcode.dto.ComcodeVersion;
 import com.climbx.climbx.common.comcode.entity.ComcodeEntity;
 import com.climbx.climbx.common.comcode.exception.ComcodeNotFound;
 import com.climbx.climbx.common.comcode.repository.ComcodeRepository;
+import com.climbx.climbx.common.config.CacheConfig;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -45,10 +53,14 @@ class ComcodeServiceTest {
         given(comcodeRepository.findAll()).willReturn(mockComcodeEntities);
 
         // ComcodeService 인스턴스 생성 (생성자에서 getCodes() 호출됨)
-        comcodeService = new ComcodeService(comcodeRepository);
+        comcodeService = createComcodeService();
         comcodeService.init();
     }
 
+    private ComcodeService createComcodeService() {
+        return new ComcodeService(comcodeRepository, new CacheConfig().missingComcodes());
+    }
+
     private ComcodeEntity createComcodeEntity(String groupCode, String code, String codeName,
         String description, int sortOrder) {
         return ComcodeEntity.builder()
@@ -88,7 +100,7 @@ class ComcodeServiceTest {
         void getCodes_EmptyRepository() {
             // given
             given(comcodeRepository.findAll()).willReturn(List.of());
-            ComcodeService emptyService = new ComcodeService(comcodeRepository);
+            ComcodeService emptyService = createComcodeService();
 
             // when
             Map<String, ComcodeDto> result = emptyService.getCodes();
@@ -257,7 +269,7 @@ class ComcodeServiceTest {
             given(comcodeRepository.findAll()).willReturn(mockComcodeEntities);
 
             // when
-            ComcodeService newService = new ComcodeService(comcodeRepository);
+            ComcodeService newService = createComcodeService();
 
             // then
             Map<String, ComcodeDto> codes = newService.getCodes();
@@ -265,5 +277,116 @@ class ComcodeServiceTest {
             assertThat(codes).containsKeys("USER", "ADMIN", "PENDING", "ACCEPTED", "REJECTED",
                 "RATING", "RANKING", "SOLVED_COUNT");
         }
+
+        @Test
+        @DisplayName("싱글톤 초기화 완료 시점에 스냅샷을 로드하고 이후 조회는 DB를 거치지 않음")
+        void afterSingletonsInstantiated_LoadsSnapshotEagerly() {
+            // given
+            ComcodeService newService = createComcodeService();
+
+            // when
+            newService.afterSingletonsInstantiated();
+
+            // then
+            assertThat(newService.getCodeValue("ACCEPTED")).isEqualTo("ACCEPTED");
+            then(comcodeRepository).should(never()).findByCode(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("스냅샷 인덱스 및 negative cache 테스트")
+    class RegistryIndex {
+
+        @Test
+        @DisplayName("그룹 코드는 sortOrder 순으로 정렬되어 반환")
+        void getCodesByGroup_SortedBySortOrder() {
+            // when
+            List<ComcodeDto> result = comcodeService.getCodesByGroup("status");
+
+            // then
+            assertThat(result).extracting(ComcodeDto::code)
+                .containsExactly("PENDING", "ACCEPTED", "REJECTED");
+        }
+
+        @Test
+        @DisplayName("소문자 코드도 DB 조회 없이 스냅샷에서 반환")
+        void getCode_LowerCase_FromSnapshot() {
+            // when
+            ComcodeDto result = comcodeService.getCodeDto("accepted");
+
+            // then
+            assertThat(result.code()).isEqualTo("ACCEPTED");
+            then(comcodeRepository).should(never()).findByCode(anyString());
+        }
+
+        @Test
+        @DisplayName("존재하지 않는 코드는 한 번만 DB를 조회하고 이후에는 negative cache로 처리")
+        void getCode_NonExistentCode_QueriesDatabaseOnce() {
+            // when
+            for (int i = 0; i < 3; i++) {
+                assertThatThrownBy(() -> comcodeService.getCodeDto("unknown"))
+                    .isInstanceOf(ComcodeNotFound.class);
+            }
+
+            // then
+            then(comcodeRepository).should(times(1)).findByCode("UNKNOWN");
+        }
+
+        @Test
+        @DisplayName("스냅샷 이후 추가된 코드는 DB에서 확인 후 스냅샷을 갱신해 반환")
+        void getCode_AddedAfterSnapshot_ReloadsRegistry() {
+            // given
+            ComcodeEntity added = createComcodeEntity("STATUS", "ON_HOLD", "보류", "보류 상태", 4);
+            given(comcodeRepository.findByCode("ON_HOLD")).willReturn(Optional.of(added));
+            given(comcodeRepository.findAll()).willReturn(
+                Stream.concat(mockComcodeEntities.stream(), Stream.of(added)).toList()
+            );
+
+            // when
+            ComcodeDto result = comcodeService.getCodeDto("ON_HOLD");
+
+            // then
+            assertThat(result.code()).isEqualTo("ON_HOLD");
+            assertThat(comcodeService.getCodesByGroup("STATUS")).extracting(ComcodeDto::code)
+                .containsExactly("PENDING", "ACCEPTED", "REJECTED", "ON_HOLD");
+        }
+    }
+
+    @Nested
+    @DisplayName("변경 감지 및 hot reload 테스트")
+    class ReloadIfChanged {
+
+        @Test
+        @DisplayName("버전이 같으면 스냅샷을 다시 읽지 않음")
+        void reloadIfChanged_SameVersion_DoesNotReload() {
+            // given
+            given(comcodeRepository.findVersion()).willReturn(
+                new ComcodeVersion((long) mockComcodeEntities.size(), null)
+            );
+
+            // when
+            comcodeService.reloadIfChanged();
+
+            // then
+            then(comcodeRepository).should(times(1)).findAll();
+        }
+
+        @Test
+        @DisplayName("버전이 바뀌면 스냅샷을 교체")
+        void reloadIfChanged_ChangedVersion_ReplacesRegistry() {
+            // given
+            given(comcodeRepository.findVersion()).willReturn(new ComcodeVersion(2L, null));
+            given(comcodeRepository.findAll()).willReturn(List.of(
+                createComcodeEntity("ROLE", "USER", "일반 사용자", "일반 사용자 권한", 1),
+                createComcodeEntity("ROLE", "ADMIN", "관리자", "관리자 권한", 2)
+            ));
+
+            // when
+            comcodeService.reloadIfChanged();
+
+            // then
+            assertThat(comcodeService.getCodesByGroup("STATUS")).isEmpty();
+            assertThat(comcodeService.getCodeValue("ADMIN")).isEqualTo("ADMIN");
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.climbx.climbx.common.comcode;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+import com.climbx.climbx.common.comcode.dto.ComcodeDto;
+import com.climbx.climbx.common.comcode.enums.ComcodeType;
+import com.climbx.climbx.common.comcode.exception.ComcodeNotFound;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ComcodeTypeValidator 테스트")
+class ComcodeTypeValidatorTest {
+
+    @Mock
+    private ComcodeService comcodeService;
+
+    @InjectMocks
+    private ComcodeTypeValidator comcodeTypeValidator;
+
+    private void givenTypesRegisteredExcept(ComcodeType missing) {
+        for (ComcodeType type : ComcodeType.values()) {
+            if (type == missing) {
+                continue;
+            }
+            given(comcodeService.getCodeDto(type.code())).willReturn(
+                ComcodeDto.builder()
+                    .codeGroup(type.groupCode())
+                    .code(type.code())
+                    .codeName(type.code())
+                    .sortOrder(1)
+                    .build()
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("모든 ComcodeType이 같은 그룹으로 존재하면 검증을 통과한다")
+    void shouldPassWhenAllTypesExist() {
+        // given
+        givenTypesRegisteredExcept(null);
+
+        // when & then
+        assertThatCode(() -> comcodeTypeValidator.validate()).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("누락된 코드가 있으면 기동을 중단한다")
+    void shouldFailWhenCodeIsMissing() {
+        // given
+        givenTypesRegisteredExcept(ComcodeType.ACCEPTED);
+        given(comcodeService.getCodeDto("ACCEPTED")).willThrow(new ComcodeNotFound("ACCEPTED"));
+
+        // when & then
+        assertThatThrownBy(() -> comcodeTypeValidator.validate())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("ACCEPTED (missing)");
+    }
+
+    @Test
+    @DisplayName("코드의 그룹이 다르면 기동을 중단한다")
+    void shouldFailWhenGroupDiffers() {
+        // given
+        given(comcodeService.getCodeDto(anyString())).willReturn(
+            ComcodeDto.builder()
+                .codeGroup("OTHER_GROUP")
+                .code("ACCESS")
+                .codeName("액세스 토큰")
+                .sortOrder(1)
+                .build()
+        );
+
+        // when & then
+        assertThatThrownBy(() -> comcodeTypeValidator.validate())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("expected=TOKEN_TYPE, actual=OTHER_GROUP");
+    }
+}
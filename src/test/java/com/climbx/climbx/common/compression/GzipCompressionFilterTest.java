@@ -0,0 +1,189 @@
+package com.climbx.climbx.common.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.climbx.climbx.common.etag.CatalogETagInterceptor;
+import com.climbx.climbx.common.etag.CatalogVersionProvider;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GzipCompressionFilter 테스트")
+class GzipCompressionFilterTest {
+
+    private static final String CATALOG_URI = "/api/gyms/search";
+
+    @Mock
+    private CatalogVersionProvider catalogVersionProvider;
+
+    private CatalogETagInterceptor catalogETagInterceptor;
+    private GzipCompressionFilter gzipCompressionFilter;
+
+    @BeforeEach
+    void setUp() {
+        catalogETagInterceptor = new CatalogETagInterceptor(catalogVersionProvider);
+        gzipCompressionFilter = new GzipCompressionFilter(true, DataSize.ofKilobytes(2),
+            new String[]{MediaType.APPLICATION_JSON_VALUE});
+    }
+
+    private static String jsonOfSize(int bytes) {
+        return "{\"data\":\"" + "a".repeat(bytes) + "\"}";
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 카탈로그 컨트롤러처럼 ETag 인터셉터를 거친 뒤 JSON 본문을 씁니다.
+     */
+    private MockHttpServletResponse requestCatalog(String acceptEncoding, String json)
+        throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", CATALOG_URI);
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain(new CatalogServlet(json));
+        gzipCompressionFilter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private class CatalogServlet extends HttpServlet {
+
+        private final String json;
+
+        CatalogServlet(String json) {
+            this.json = json;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+            if (!catalogETagInterceptor.preHandle(request, response, new Object())) {
+                return;
+            }
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getOutputStream().write(json.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Nested
+    @DisplayName("압축 대상")
+    class Compressed {
+
+        @Test
+        @DisplayName("strong ETag가 붙은 2KB 이상의 카탈로그 응답을 gzip으로 압축한다")
+        void shouldGzipLargeCatalogResponseWithStrongETag() throws Exception {
+            // given
+            given(catalogVersionProvider.currentVersion()).willReturn("10:2025-01-01T00:00");
+            String json = jsonOfSize(4 * 1024);
+
+            // when
+            MockHttpServletResponse response = requestCatalog("gzip, deflate, br", json);
+
+            // then
+            assertThat(response.getHeader(HttpHeaders.ETAG))
+                .startsWith("\"")
+                .doesNotStartWith("W/");
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+            assertThat(response.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+            assertThat(response.getContentAsByteArray().length).isLessThan(json.length());
+            assertThat(gunzip(response.getContentAsByteArray())).isEqualTo(json);
+        }
+    }
+
+    @Nested
+    @DisplayName("압축 제외")
+    class NotCompressed {
+
+        @Test
+        @DisplayName("2KB 미만의 응답은 압축하지 않고 Content-Length를 설정한다")
+        void shouldNotGzipSmallResponse() throws Exception {
+            // given
+            given(catalogVersionProvider.currentVersion()).willReturn("10:2025-01-01T00:00");
+            String json = jsonOfSize(100);
+
+            // when
+            MockHttpServletResponse response = requestCatalog("gzip", json);
+
+            // then
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(response.getContentAsString()).isEqualTo(json);
+            assertThat(response.getContentLength()).isEqualTo(json.length());
+        }
+
+        @Test
+        @DisplayName("gzip을 받지 않는 클라이언트에는 압축하지 않는다")
+        void shouldNotGzipWithoutAcceptEncoding() throws Exception {
+            // given
+            given(catalogVersionProvider.currentVersion()).willReturn("10:2025-01-01T00:00");
+            String json = jsonOfSize(4 * 1024);
+
+            // when
+            MockHttpServletResponse response = requestCatalog("identity", json);
+
+            // then
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(response.getContentAsString()).isEqualTo(json);
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 일치해 304를 반환하면 본문 없이 그대로 둔다")
+        void shouldLeaveNotModifiedResponseUntouched() throws Exception {
+            // given
+            given(catalogVersionProvider.currentVersion()).willReturn("10:2025-01-01T00:00");
+            String etag = requestCatalog("gzip", jsonOfSize(4 * 1024))
+                .getHeader(HttpHeaders.ETAG);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", CATALOG_URI);
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            gzipCompressionFilter.doFilter(request, response,
+                new MockFilterChain(new CatalogServlet(jsonOfSize(4 * 1024))));
+
+            // then
+            assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_NOT_MODIFIED);
+            assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Accept-Encoding 해석")
+    class AcceptEncoding {
+
+        @Test
+        @DisplayName("q=0 으로 거부한 gzip은 받지 않는 것으로 본다")
+        void shouldRespectQualityZero() {
+            assertThat(GzipCompressionFilter.acceptsGzip("gzip;q=0, br")).isFalse();
+            assertThat(GzipCompressionFilter.acceptsGzip("br, gzip;q=0.5")).isTrue();
+            assertThat(GzipCompressionFilter.acceptsGzip("*")).isTrue();
+            assertThat(GzipCompressionFilter.acceptsGzip(null)).isFalse();
+        }
+    }
+}
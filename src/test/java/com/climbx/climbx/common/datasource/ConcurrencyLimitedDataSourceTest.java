@@ -0,0 +1,124 @@
+package com.climbx.climbx.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection targetConnection;
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("허가를 모두 사용 중이면 대기 시간 후 SQLTransientConnectionException을 던진다")
+    void shouldFailWhenLimitReached() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+            .isInstanceOf(SQLTransientConnectionException.class);
+        then(targetDataSource).should(times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허가를 반환하고, 여러 번 닫아도 한 번만 반환한다")
+    void shouldReleasePermitOnceOnClose() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+        Connection connection = dataSource.getConnection();
+
+        // when
+        connection.close();
+        connection.close();
+
+        // then
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+        then(targetConnection).should(times(2)).close();
+        assertThat(dataSource.getConnection()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("대상 DataSource에서 커넥션을 얻지 못하면 허가를 반환한다")
+    void shouldReleasePermitWhenTargetFails() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willThrow(new SQLException("pool timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("close 외의 호출은 대상 커넥션에 위임한다")
+    void shouldDelegateOtherCalls() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+        given(targetConnection.getAutoCommit()).willReturn(false);
+
+        // when
+        boolean autoCommit = dataSource.getConnection().getAutoCommit();
+
+        // then
+        assertThat(autoCommit).isFalse();
+        assertThat(dataSource.getAvailablePermits()).isZero();
+    }
+
+    @Test
+    @DisplayName("equals, hashCode는 대상 커넥션이 아닌 프록시 자신을 기준으로 한다")
+    void shouldCompareByProxyIdentity() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        Connection other = dataSource.getConnection();
+
+        // when & then
+        assertThat(connection).isEqualTo(connection);
+        assertThat(connection).isNotEqualTo(other);
+        assertThat(connection).isNotEqualTo(targetConnection);
+        assertThat(connection.hashCode()).isEqualTo(System.identityHashCode(connection));
+    }
+
+    @Test
+    @DisplayName("Connection으로 unwrap하면 허가 반환을 우회하지 않도록 프록시를 반환한다")
+    void shouldUnwrapToProxy() throws SQLException {
+        // given
+        given(targetDataSource.getConnection()).willReturn(targetConnection);
+        Connection connection = dataSource.getConnection();
+
+        // when
+        Connection unwrapped = connection.unwrap(Connection.class);
+
+        // then
+        assertThat(unwrapped).isSameAs(connection);
+        assertThat(connection.isWrapperFor(Connection.class)).isTrue();
+        then(targetConnection).shouldHaveNoInteractions();
+    }
+}
@@ -0,0 +1,135 @@
+package com.climbx.climbx.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * MySQL 모드의 in-memory H2 두 개를 primary, replica로 사용해 라우팅을 검증합니다.
+ */
+@DisplayName("ReplicationRoutingDataSource 테스트")
+class ReplicationRoutingDataSourceTest {
+
+    private ReplicaLagMonitor replicaLagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnlyTransaction;
+    private TransactionTemplate writeTransaction;
+
+    private static DataSource createDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node_info (name VARCHAR(20))");
+        template.update("INSERT INTO node_info (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = createDatabase("primary");
+        DataSource replica = createDatabase("replica");
+        replicaLagMonitor = new ReplicaLagMonitor(replica, Duration.ofSeconds(2));
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+            new ReplicationRoutingDataSource(primary, replica, replicaLagMonitor));
+        DataSourceTransactionManager transactionManager =
+            new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        writeTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    private String currentNode(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status ->
+            jdbcTemplate.queryForObject("SELECT name FROM node_info", String.class));
+    }
+
+    @Nested
+    @DisplayName("replica 사용 가능")
+    class ReplicaAvailable {
+
+        @BeforeEach
+        void setUp() {
+            replicaLagMonitor.update(0L);
+        }
+
+        @Test
+        @DisplayName("readOnly 트랜잭션은 replica로 보낸다")
+        void shouldRouteReadOnlyToReplica() {
+            // when
+            String node = currentNode(readOnlyTransaction);
+
+            // then
+            assertThat(node).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("쓰기 트랜잭션과 트랜잭션 밖의 쿼리는 primary로 보낸다")
+        void shouldRouteWriteToPrimary() {
+            // when
+            String writeNode = currentNode(writeTransaction);
+            String nonTransactionalNode = jdbcTemplate.queryForObject(
+                "SELECT name FROM node_info", String.class);
+
+            // then
+            assertThat(writeNode).isEqualTo("primary");
+            assertThat(nonTransactionalNode).isEqualTo("primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("replica 사용 불가 시 primary로 대체")
+    class ReplicaFallback {
+
+        @Test
+        @DisplayName("복제 지연이 허용치를 넘으면 readOnly 트랜잭션도 primary로 보낸다")
+        void shouldFallbackWhenLagExceeded() {
+            // given
+            replicaLagMonitor.update(10L);
+
+            // when
+            String node = currentNode(readOnlyTransaction);
+
+            // then
+            assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+            assertThat(node).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("복제 상태를 조회할 수 없으면 replica를 사용하지 않는다")
+        void shouldFallbackWhenReplicaStatusUnavailable() {
+            // given
+            replicaLagMonitor.update(0L);
+
+            // when (H2는 SHOW REPLICA STATUS를 지원하지 않아 조회 실패)
+            replicaLagMonitor.check();
+
+            // then
+            assertThat(replicaLagMonitor.isReplicaAvailable()).isFalse();
+            assertThat(currentNode(readOnlyTransaction)).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("한 번도 확인하지 않은 replica는 사용하지 않는다")
+        void shouldNotUseUncheckedReplica() {
+            // when
+            String node = currentNode(readOnlyTransaction);
+
+            // then
+            assertThat(node).isEqualTo("primary");
+        }
+    }
+}
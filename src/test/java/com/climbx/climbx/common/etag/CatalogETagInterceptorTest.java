@@ -0,0 +1,141 @@
+package com.climbx.climbx.common.etag;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogETagInterceptorTest {
+
+    private static final String VERSION = "10:2025-01-01T00:00/20:2025-01-01T00:00";
+
+    @Mock
+    private CatalogVersionProvider catalogVersionProvider;
+
+    @InjectMocks
+    private CatalogETagInterceptor catalogETagInterceptor;
+
+    private String requestETag(String uri, String queryString) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setQueryString(queryString);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        catalogETagInterceptor.preHandle(request, response, new Object());
+        return response.getHeader(HttpHeaders.ETAG);
+    }
+
+    @Nested
+    @DisplayName("ETag 발급")
+    class IssueETag {
+
+        @Test
+        @DisplayName("GET 요청이면 데이터 버전으로 계산한 strong ETag를 설정하고 컨트롤러를 실행한다")
+        void shouldSetStrongETag() {
+            // given
+            given(catalogVersionProvider.currentVersion()).willReturn(VERSION);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/gyms/1");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean proceed = catalogETagInterceptor.preHandle(request, response, new Object());
+
+            // then
+            assertThat(proceed).isTrue();
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+            assertThat(response.getHeader(HttpHeaders.ETAG))
+                .startsWith("\"")
+                .doesNotStartWith("W/");
+        }
+
+        @Test
+        @DisplayName("같은 버전과 요청이면 같은 ETag를, 쿼리나 버전이 다르면 다른 ETag를 발급한다")
+        void shouldDependOnVersionAndRequest() {
+            // given
+            given(catalogVersionProvider.currentVersion())
+                .willReturn(VERSION, VERSION, VERSION, "11:2025-01-02T00:00/20:2025-01-01T00:00");
+
+            // when
+            String first = requestETag("/api/problems", "gymId=1");
+            String same = requestETag("/api/problems", "gymId=1");
+            String otherQuery = requestETag("/api/problems", "gymId=2");
+            String otherVersion = requestETag("/api/problems", "gymId=1");
+
+            // then
+            assertThat(same).isEqualTo(first);
+            assertThat(otherQuery).isNotEqualTo(first);
+            assertThat(otherVersion).isNotEqualTo(first);
+        }
+
+        @Test
+        @DisplayName("GET이 아닌 요청은 ETag 없이 그대로 통과시킨다")
+        void shouldSkipNonGetRequest() {
+            // given
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/gyms");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean proceed = catalogETagInterceptor.preHandle(request, response, new Object());
+
+            // then
+            assertThat(proceed).isTrue();
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+            then(catalogVersionProvider).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("조건부 요청")
+    class ConditionalRequest {
+
+        @Test
+        @DisplayName("If-None-Match가 현재 ETag와 일치하면 컨트롤러 실행 없이 304를 반환한다")
+        void shouldReturnNotModified() {
+            // given
+            given(catalogVersionProvider.currentVersion()).willReturn(VERSION);
+            String etag = requestETag("/api/gyms/search", "keyword=climb");
+
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/gyms/search");
+            request.setQueryString("keyword=climb");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean proceed = catalogETagInterceptor.preHandle(request, response, new Object());
+
+            // then
+            assertThat(proceed).isFalse();
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+            assertThat(response.getContentAsByteArray()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 다르면 새 ETag와 함께 컨트롤러를 실행한다")
+        void shouldProceedWhenETagChanged() {
+            // given
+            given(catalogVersionProvider.currentVersion()).willReturn(VERSION);
+            MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/gyms/1");
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"stale\"");
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            // when
+            boolean proceed = catalogETagInterceptor.preHandle(request, response, new Object());
+
+            // then
+            assertThat(proceed).isTrue();
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+            assertThat(response.getHeader(HttpHeaders.ETAG)).isNotEqualTo("\"stale\"");
+        }
+    }
+}
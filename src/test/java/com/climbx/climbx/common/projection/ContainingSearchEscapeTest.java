@@ -0,0 +1,139 @@
+package com.climbx.climbx.common.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.climbx.climbx.fixture.GymFixture;
+import com.climbx.climbx.gym.dto.GymInfoResponseDto;
+import com.climbx.climbx.gym.repository.GymRepository;
+import com.climbx.climbx.user.dto.UserProfileDto;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * projection 으로 옮긴 포함 검색 쿼리가 검색어의 %, _ 를 와일드카드가 아닌 문자로 다루는지 확인합니다. 다른 데이터와 섞이지 않도록 임의의
+ * 접두사를 붙인 행만 비교합니다. MySQL이 필요하므로 DB_URL 이 설정된 환경(CI)에서만 실행합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+@DisplayName("포함 검색 와일드카드 이스케이프 테스트")
+class ContainingSearchEscapeTest {
+
+    private static final String USER_ROLE = "USER";
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private GymRepository gymRepository;
+
+    private String prefix;
+
+    @BeforeEach
+    void setUp() {
+        prefix = UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private void persistAccount(String nickname) {
+        testEntityManager.persist(UserAccountEntity.builder()
+            .role(USER_ROLE)
+            .nickname(nickname)
+            .build());
+    }
+
+    private void insertGym(String name) {
+        jdbcTemplate.update("INSERT INTO gyms (name, latitude, longitude, address, phone_number, "
+                + "map_2d_url) VALUES (?, 37.5, 127.0, ?, ?, ?)",
+            name, GymFixture.ADDRESS, GymFixture.PHONE_NUMBER, GymFixture.MAP_2D_URL);
+    }
+
+    @Test
+    @DisplayName("닉네임 검색어의 _ 는 임의의 한 글자가 아니라 밑줄 문자와만 일치한다")
+    void nicknameSearchEscapesUnderscore() {
+        // given
+        persistAccount(prefix + "_climber");
+        persistAccount(prefix + "xclimber");
+        testEntityManager.flush();
+
+        // when
+        List<UserProfileDto> profiles = userAccountRepository
+            .findProfilesByRoleAndNicknameContaining(USER_ROLE, prefix + "_");
+
+        // then
+        assertThat(profiles)
+            .extracting(UserProfileDto::nickname)
+            .containsExactly(prefix + "_climber");
+    }
+
+    @Test
+    @DisplayName("닉네임 검색어의 % 는 모든 문자열이 아니라 퍼센트 문자와만 일치한다")
+    void nicknameSearchEscapesPercent() {
+        // given
+        persistAccount(prefix + "100%");
+        persistAccount(prefix + "100");
+        testEntityManager.flush();
+
+        // when
+        List<UserProfileDto> profiles = userAccountRepository
+            .findProfilesByRoleAndNicknameContaining(USER_ROLE, "%");
+
+        // then
+        assertThat(profiles)
+            .extracting(UserProfileDto::nickname)
+            .allMatch(nickname -> nickname.contains("%"))
+            .contains(prefix + "100%");
+    }
+
+    @Test
+    @DisplayName("클라이밍장 이름 검색어의 %, _ 는 문자 그대로 대소문자 구분 없이 검색된다")
+    void gymNameSearchEscapesWildcards() {
+        // given
+        insertGym(prefix + "_Gym 50%");
+        insertGym(prefix + "xGym 50");
+        insertGym(prefix + "_Gym 500");
+
+        // when
+        List<GymInfoResponseDto> gyms = gymRepository
+            .findAllByNameContainingIgnoreCase(prefix + "_gym 50%");
+
+        // then
+        assertThat(gyms)
+            .extracting(GymInfoResponseDto::name)
+            .containsExactly(prefix + "_Gym 50%");
+    }
+
+    @Test
+    @DisplayName("거리순 클라이밍장 이름 검색도 검색어의 와일드카드를 이스케이프한다")
+    void gymNameSearchOrderByDistanceEscapesWildcards() {
+        // given
+        insertGym(prefix + "_Gym");
+        insertGym(prefix + "xGym");
+
+        // when
+        List<GymInfoResponseDto> gyms = gymRepository
+            .findAllByNameContainingIgnoreCaseOrderByDistance(37.5, 127.0, prefix + "_");
+
+        // then
+        assertThat(gyms)
+            .extracting(GymInfoResponseDto::name)
+            .containsExactly(prefix + "_Gym");
+    }
+}
@@ -0,0 +1,91 @@
+package com.climbx.climbx.common.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.climbx.climbx.common.timeTracking.TimeContext;
+import com.climbx.climbx.fixture.UserFixture;
+import com.climbx.climbx.user.dto.UserProfileResponseDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@DisplayName("ApiResponseJsonWriter 테스트")
+class ApiResponseJsonWriterTest {
+
+    // 애플리케이션 설정(write-dates-as-timestamps: false)과 동일한 ObjectMapper
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+
+    private final ApiResponseJsonWriter apiResponseJsonWriter = new ApiResponseJsonWriter(
+        objectMapper);
+
+    @AfterEach
+    void tearDown() {
+        TimeContext.clear();
+    }
+
+    private String write(ApiResponse<?> response) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        apiResponseJsonWriter.write(response, outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    private void assertSameAsObjectMapper(ApiResponse<?> response) throws IOException {
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(response));
+        JsonNode actual = objectMapper.readTree(write(response));
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("리스트 data를 ObjectMapper 직렬화 결과와 동일하게 출력한다")
+    void shouldWriteListDataSameAsObjectMapper() throws IOException {
+        // given
+        TimeContext.setStartTime(System.nanoTime());
+        TimeContext.setPath("/api/users");
+        List<UserProfileResponseDto> users = LongStream.rangeClosed(1, 20)
+            .mapToObj(id -> UserFixture.createUserProfileResponseDto("user" + id, id))
+            .toList();
+
+        // when & then
+        assertSameAsObjectMapper(ApiResponse.success(users));
+    }
+
+    @Test
+    @DisplayName("단건 data와 사용자 정의 상태 코드를 동일하게 출력한다")
+    void shouldWriteSingleDataWithStatus() throws IOException {
+        // given
+        Map<String, Object> data = Map.of("id", 1L, "name", "클라이밍짐");
+
+        // when & then
+        assertSameAsObjectMapper(ApiResponse.success(data, HttpStatus.CREATED));
+    }
+
+    @Test
+    @DisplayName("data와 시간 정보가 없는 에러 응답도 null 필드를 포함해 출력한다")
+    void shouldWriteNullFields() throws IOException {
+        // given
+        ApiResponse<Void> response = ApiResponse.error(HttpStatus.BAD_REQUEST, "잘못된 요청");
+
+        // when
+        String json = write(response);
+
+        // then
+        assertSameAsObjectMapper(response);
+        JsonNode node = objectMapper.readTree(json);
+        assertThat(node.get("data").isNull()).isTrue();
+        assertThat(node.get("path").isNull()).isTrue();
+        assertThat(node.get("responseTimeMs").isNull()).isTrue();
+    }
+}
@@ -0,0 +1,175 @@
+package com.climbx.climbx.common.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.climbx.climbx.problem.repository.ProblemRepository;
+import com.climbx.climbx.submission.repository.SubmissionRepository;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import com.climbx.climbx.user.repository.UserRankingHistoryRepository;
+import com.climbx.climbx.user.repository.UserStatRepository;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Flyway 마이그레이션으로 만든 MySQL 스키마에서 repository 쿼리가 의도한 인덱스를 사용할 수 있는지 EXPLAIN으로 확인합니다.
+ * <p>
+ * 실제로 선택되는 인덱스는 데이터 분포에 따라 달라지므로, 조건이 인덱스를 탈 수 있는 형태인지(possible_keys)를 확인합니다. MySQL이 필요하므로
+ * DB_URL 이 설정된 환경(CI)에서만 실행합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+@DisplayName("쿼리 인덱스 EXPLAIN 테스트")
+class QueryIndexExplainTest {
+
+    @Autowired
+    private AtomicReference<String> lastStatement;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private UserStatRepository userStatRepository;
+
+    @Autowired
+    private UserRankingHistoryRepository userRankingHistoryRepository;
+
+    @Autowired
+    private ProblemRepository problemRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    /**
+     * 마지막으로 실행된 SQL을 EXPLAIN 하고 possible_keys 를 모읍니다. params는 SQL의 ? 순서대로 전달합니다.
+     */
+    private Set<String> possibleKeysOfLastStatement(Object... params) {
+        return jdbcTemplate.query("EXPLAIN " + lastStatement.get(), rs -> {
+            Set<String> keys = new HashSet<>();
+            while (rs.next()) {
+                String possibleKeys = rs.getString("possible_keys");
+                if (possibleKeys != null) {
+                    keys.addAll(Arrays.asList(possibleKeys.split(",")));
+                }
+            }
+            return keys;
+        }, params);
+    }
+
+    @Test
+    @DisplayName("역할별 사용자 조회는 idx_user_accounts_live_role 을 사용할 수 있다")
+    void findByRoleUsesLiveRoleIndex() {
+        // when
+        userAccountRepository.findProfilesByRole("USER");
+
+        // then
+        assertThat(possibleKeysOfLastStatement("USER"))
+            .contains("idx_user_accounts_live_role");
+    }
+
+    @Test
+    @DisplayName("레이팅 순위 조회는 idx_user_stats_rating 을 사용할 수 있다")
+    void countByRatingUsesRatingIndex() {
+        // when
+        userStatRepository.countByRatingGreaterThan(1000L);
+
+        // then
+        assertThat(possibleKeysOfLastStatement(1000L))
+            .contains("idx_user_stats_rating");
+    }
+
+    @Test
+    @DisplayName("레이팅 리더보드 keyset 조회는 idx_user_stats_rating 을 사용할 수 있다")
+    void ratingRankingUsesRatingIndex() {
+        // given
+        long firstPageValue = UserStatRepository.FIRST_PAGE_VALUE;
+
+        // when
+        userStatRepository.findRatingRanking(firstPageValue, 0L, Limit.of(20));
+
+        // then
+        assertThat(possibleKeysOfLastStatement(firstPageValue, firstPageValue, 0L, 20))
+            .contains("idx_user_stats_rating");
+    }
+
+    @Test
+    @DisplayName("문제 스팟 조회는 idx_problems_live_gym_level_color 를 사용할 수 있다")
+    void findProblemsUsesGymLevelColorIndex() {
+        // when
+        problemRepository.findByGym_GymIdAndLocalLevelAndHoldColor(1L, "파랑", "빨강");
+
+        // then
+        assertThat(possibleKeysOfLastStatement(1L, "파랑", "빨강"))
+            .contains("idx_problems_live_gym_level_color");
+    }
+
+    @Test
+    @DisplayName("일별 히스토리 조회는 idx_user_ranking_histories_user_part_created_at 을 사용할 수 있다")
+    void dailyHistoryUsesUserPartCreatedAtIndex() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+        // when
+        userRankingHistoryRepository.getUserDailyHistoryBetween(1L, "RATING", from, to);
+
+        // then
+        assertThat(possibleKeysOfLastStatement(1L, "RATING", from, from, to, to))
+            .contains("idx_user_ranking_histories_user_part_created_at");
+    }
+
+    @Test
+    @DisplayName("일별 해결 문제 수 조회는 idx_videos_user_id 와 idx_submissions_status_created_at 을 사용할 수 있다")
+    void dateSolvedCountUsesVideoUserAndStatusCreatedAtIndexes() {
+        // given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+        // when
+        submissionRepository.getUserDateSolvedCountBetween(1L, "ACCEPTED", from, to);
+
+        // then
+        assertThat(possibleKeysOfLastStatement(1L, "ACCEPTED", from, from, to, to))
+            .contains("idx_videos_user_id", "idx_submissions_status_created_at");
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        @Bean
+        AtomicReference<String> lastStatement() {
+            return new AtomicReference<>();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementCaptureCustomizer(
+            AtomicReference<String> lastStatement
+        ) {
+            StatementInspector inspector = sql -> {
+                lastStatement.set(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -8,11 +8,13 @@ import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.spy;
 
 import com.climbx.climbx.auth.dto.AccessTokenResponseDto;
-import com.climbx.climbx.common.comcode.ComcodeService;
 import com.climbx.climbx.common.security.dto.JwtTokenInfo;
+import com.climbx.climbx.common.security.dto.TokenValidationResult;
 import com.climbx.climbx.common.security.exception.InvalidTokenException;
 import com.climbx.climbx.common.security.exception.TokenExpiredException;
 import jakarta.servlet.http.HttpServletRequest;
+import java.nio.charset.StandardCharsets;
+import javax.crypto.spec.SecretKeySpec;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,6 +22,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("JwtContext 테스트")
@@ -32,9 +36,6 @@ class JwtContextTest {
     private static final String AUDIENCE = "climbx-test-client";
     private static final String JWS_ALGORITHM = "HS256";
 
-    @Mock
-    private ComcodeService comcodeService;
-
     @Mock
     private HttpServletRequest request;
 
@@ -44,7 +45,6 @@ class JwtContextTest {
     @BeforeEach
     void setUp() {
         jwtContext = new JwtContext(
-            comcodeService,
             JWT_SECRET,
             ACCESS_TOKEN_EXPIRATION,
             REFRESH_TOKEN_EXPIRATION,
@@ -96,6 +96,46 @@ class JwtContextTest {
         }
     }
 
+    @Nested
+    @DisplayName("발급 토큰 호환성 테스트")
+    class IssuedTokenCompatibilityTest {
+
+        private final NimbusJwtDecoder nimbusDecoder = NimbusJwtDecoder
+            .withSecretKey(new SecretKeySpec(JWT_SECRET.getBytes(StandardCharsets.UTF_8),
+                JWS_ALGORITHM))
+            .build();
+
+        @Test
+        @DisplayName("발급한 액세스 토큰을 NimbusJwtDecoder로 동일하게 검증할 수 있다")
+        void shouldIssueAccessTokenDecodableByNimbus() {
+            // when
+            String token = jwtContext.generateAccessToken(42L, "ADMIN").accessToken();
+            Jwt jwt = nimbusDecoder.decode(token);
+
+            // then
+            assertThat(jwt.getHeaders()).containsEntry("alg", "HS256").containsEntry("typ", "JWT");
+            assertThat(jwt.getSubject()).isEqualTo("42");
+            assertThat(jwt.getClaimAsString("iss")).isEqualTo(ISSUER);
+            assertThat(jwt.getAudience()).containsExactly(AUDIENCE);
+            assertThat(jwt.getClaimAsString("role")).isEqualTo("ADMIN");
+            assertThat(jwt.getClaimAsString("type")).isEqualTo("ACCESS");
+            assertThat(jwt.getExpiresAt()).isEqualTo(
+                jwt.getIssuedAt().plusSeconds(ACCESS_TOKEN_EXPIRATION));
+        }
+
+        @Test
+        @DisplayName("발급한 리프레시 토큰에는 role 클레임이 없다")
+        void shouldIssueRefreshTokenWithoutRole() {
+            // when
+            Jwt jwt = nimbusDecoder.decode(jwtContext.generateRefreshToken(7L));
+
+            // then
+            assertThat(jwt.getSubject()).isEqualTo("7");
+            assertThat(jwt.getClaimAsString("type")).isEqualTo("REFRESH");
+            assertThat(jwt.hasClaim("role")).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("HTTP 요청에서 토큰 추출 테스트")
     class ExtractTokenFromRequestTest {
@@ -220,6 +260,112 @@ class JwtContextTest {
         }
     }
 
+    @Nested
+    @DisplayName("예외 없는 토큰 검증 테스트")
+    class ValidateTokenTest {
+
+        @Test
+        @DisplayName("정상 발급된 액세스 토큰은 Valid 결과를 반환한다")
+        void shouldReturnValidForIssuedAccessToken() {
+            // given
+            String token = jwtContext.generateAccessToken(1L, "USER").accessToken();
+
+            // when
+            TokenValidationResult result = jwtContext.validateToken(token);
+
+            // then
+            assertThat(result).isInstanceOf(TokenValidationResult.Valid.class);
+            JwtTokenInfo tokenInfo = ((TokenValidationResult.Valid) result).tokenInfo();
+            assertThat(tokenInfo.userId()).isEqualTo(1L);
+            assertThat(tokenInfo.issuer()).isEqualTo(ISSUER);
+            assertThat(tokenInfo.audience()).isEqualTo(AUDIENCE);
+            assertThat(tokenInfo.role()).isEqualTo("USER");
+            assertThat(tokenInfo.tokenType()).isEqualTo("ACCESS");
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 Expired 결과를 반환하고 parseToken은 TokenExpiredException을 던진다")
+        void shouldReturnExpiredForExpiredToken() {
+            // given
+            JwtContext expiredContext = new JwtContext(
+                    JWT_SECRET,
+                -120, // 허용 오차(60초)를 넘겨 이미 만료된 토큰 발급
+                REFRESH_TOKEN_EXPIRATION,
+                ISSUER,
+                AUDIENCE,
+                JWS_ALGORITHM
+            );
+            String token = expiredContext.generateAccessToken(1L, "USER").accessToken();
+
+            // when
+            TokenValidationResult result = jwtContext.validateToken(token);
+
+            // then
+            assertThat(result).isInstanceOf(TokenValidationResult.Expired.class);
+            assertThatThrownBy(() -> jwtContext.parseToken(token))
+                .isInstanceOf(TokenExpiredException.class)
+                .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("다른 키로 서명된 토큰은 Invalid 결과를 반환한다")
+        void shouldReturnInvalidForForeignSignature() {
+            // given
+            JwtContext foreignContext = new JwtContext(
+                    JWT_SECRET + "-foreign",
+                ACCESS_TOKEN_EXPIRATION,
+                REFRESH_TOKEN_EXPIRATION,
+                ISSUER,
+                AUDIENCE,
+                JWS_ALGORITHM
+            );
+            String token = foreignContext.generateRefreshToken(1L);
+
+            // when
+            TokenValidationResult result = jwtContext.validateToken(token);
+
+            // then
+            assertThat(result).isInstanceOf(TokenValidationResult.Invalid.class);
+        }
+
+        @Test
+        @DisplayName("issuer가 다른 토큰은 Invalid 결과를 반환한다")
+        void shouldReturnInvalidForWrongIssuer() {
+            // given
+            JwtContext otherIssuerContext = new JwtContext(
+                    JWT_SECRET,
+                ACCESS_TOKEN_EXPIRATION,
+                REFRESH_TOKEN_EXPIRATION,
+                "other-issuer",
+                AUDIENCE,
+                JWS_ALGORITHM
+            );
+            String token = otherIssuerContext.generateRefreshToken(1L);
+
+            // when
+            TokenValidationResult result = jwtContext.validateToken(token);
+
+            // then
+            assertThat(result).isInstanceOf(TokenValidationResult.Invalid.class);
+        }
+
+        @Test
+        @DisplayName("형식이 잘못된 토큰은 예외 없이 Invalid 결과를 반환한다")
+        void shouldReturnInvalidForMalformedToken() {
+            // when & then
+            assertThat(jwtContext.validateToken(null))
+                .isInstanceOf(TokenValidationResult.Invalid.class);
+            assertThat(jwtContext.validateToken(""))
+                .isInstanceOf(TokenValidationResult.Invalid.class);
+            assertThat(jwtContext.validateToken("not-a-jwt"))
+                .isInstanceOf(TokenValidationResult.Invalid.class);
+            assertThat(jwtContext.validateToken("a.b.c.d"))
+                .isInstanceOf(TokenValidationResult.Invalid.class);
+            assertThat(jwtContext.validateToken("invalid.token.format"))
+                .isInstanceOf(TokenValidationResult.Invalid.class);
+        }
+    }
+
     @Nested
     @DisplayName("토큰 만료 시간 조회 테스트")
     class GetExpirationTest {
@@ -0,0 +1,104 @@
+package com.climbx.climbx.common.sqlTracking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@DisplayName("SqlTrackingInterceptor 테스트")
+class SqlTrackingInterceptorTest {
+
+    private static final String ROUTE = "/api/users/{nickname}";
+
+    private final SqlStatementInspector statementInspector = new SqlStatementInspector();
+    private final SqlTimingSessionEventListener sessionEventListener =
+        new SqlTimingSessionEventListener();
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlTrackingInterceptor sqlTrackingInterceptor;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sqlTrackingInterceptor = new SqlTrackingInterceptor(meterRegistry, Duration.ofSeconds(1));
+        request = new MockHttpServletRequest("GET", "/api/users/alice");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ROUTE);
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlTrackingContext.clear();
+    }
+
+    private void executeStatement(String sql) {
+        statementInspector.inspect(sql);
+        sessionEventListener.jdbcExecuteStatementStart();
+        sessionEventListener.jdbcExecuteStatementEnd();
+    }
+
+    @Test
+    @DisplayName("요청 중 실행된 SQL 수와 가장 느린 SQL을 수집하고 라우트별 메트릭으로 기록한다")
+    void shouldRecordStatementMetricsPerRoute() {
+        // given
+        sqlTrackingInterceptor.preHandle(request, response, new Object());
+
+        // when
+        executeStatement("select * from users where nickname=?");
+        executeStatement("select * from user_stats where user_id=?");
+        executeStatement("select * from user_stats where user_id=?");
+        SqlStatistics statistics = SqlTrackingContext.get();
+        sqlTrackingInterceptor.afterCompletion(request, response, new Object(), null);
+
+        // then
+        assertThat(statistics.getStatementCount()).isEqualTo(3);
+        assertThat(statistics.getSlowestSql()).isNotNull();
+        assertThat(SqlTrackingContext.get()).isNull();
+
+        DistributionSummary statements = meterRegistry.get("sql.statements")
+            .tag("uri", ROUTE).summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("sql.jdbc.time").tag("uri", ROUTE).timer().count())
+            .isEqualTo(1);
+        Timer slowest = meterRegistry.get("sql.statement.slowest").tag("uri", ROUTE).timer();
+        assertThat(slowest.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("SQL이 없는 요청은 실행 수 0만 기록한다")
+    void shouldRecordZeroStatements() {
+        // given
+        sqlTrackingInterceptor.preHandle(request, response, new Object());
+
+        // when
+        sqlTrackingInterceptor.afterCompletion(request, response, new Object(), null);
+
+        // then
+        assertThat(meterRegistry.get("sql.statements").tag("uri", ROUTE).summary().totalAmount())
+            .isZero();
+        assertThat(meterRegistry.find("sql.jdbc.time").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청 밖에서 실행된 SQL은 기록하지 않는다")
+    void shouldIgnoreStatementsOutsideRequest() {
+        // when
+        executeStatement("select * from comcodes");
+
+        // then
+        assertThat(SqlTrackingContext.get()).isNull();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
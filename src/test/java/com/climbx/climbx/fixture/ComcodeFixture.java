@@ -0,0 +1,43 @@
+package com.climbx.climbx.fixture;
+
+import com.climbx.climbx.common.comcode.entity.ComcodeEntity;
+import java.util.List;
+
+public class ComcodeFixture {
+
+    public static ComcodeEntity createComcodeEntity(
+        String groupCode,
+        String code,
+        String codeName,
+        String description,
+        int sortOrder
+    ) {
+        return ComcodeEntity.builder()
+            .groupCode(groupCode)
+            .code(code)
+            .codeName(codeName)
+            .description(description)
+            .sortOrder(sortOrder)
+            .build();
+    }
+
+    // db/migration/V5__seed_comcodes.sql 과 동일한 코드 목록
+    public static List<ComcodeEntity> createDefaultComcodeEntities() {
+        return List.of(
+            createComcodeEntity("TOKEN_TYPE", "ACCESS", "액세스 토큰", "JWT 액세스 토큰 타입", 1),
+            createComcodeEntity("TOKEN_TYPE", "REFRESH", "리프레시 토큰", "JWT 리프레시 토큰 타입", 2),
+            createComcodeEntity("USER_ROLE", "USER", "일반 사용자", "일반 사용자 권한", 1),
+            createComcodeEntity("USER_ROLE", "ADMIN", "관리자", "관리자 권한", 2),
+            createComcodeEntity("STATUS", "PENDING", "검토 대기", "제출된 영상이 검토 대기 중인 상태", 1),
+            createComcodeEntity("STATUS", "ACCEPTED", "승인됨", "제출된 영상이 승인된 상태", 2),
+            createComcodeEntity("STATUS", "REJECTED", "거부됨", "제출된 영상이 거부된 상태", 3),
+            createComcodeEntity("USER_HISTORY_CRITERIA", "RATING", "레이팅", "사용자 레이팅 히스토리", 1),
+            createComcodeEntity("USER_HISTORY_CRITERIA", "STREAK", "연속 해결", "사용자 연속 문제 해결 히스토리", 2),
+            createComcodeEntity("USER_HISTORY_CRITERIA", "SOLVED_COUNT", "해결 문제 수",
+                "사용자 해결한 총 문제 수 히스토리", 3),
+            createComcodeEntity("OAUTH2_PROVIDER", "KAKAO", "카카오", "카카오 OAuth2 인증 제공자", 1),
+            createComcodeEntity("OAUTH2_PROVIDER", "GOOGLE", "구글", "구글 OAuth2 인증 제공자", 2),
+            createComcodeEntity("OAUTH2_PROVIDER", "APPLE", "애플", "애플 OAuth2 인증 제공자", 3)
+        );
+    }
+}
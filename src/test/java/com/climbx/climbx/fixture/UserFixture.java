@@ -1,6 +1,7 @@
 package com.climbx.climbx.fixture;
 
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.dto.UserProfileDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
 import com.climbx.climbx.user.entity.UserAccountEntity;
 import com.climbx.climbx.user.entity.UserRankingHistoryEntity;
@@ -125,6 +126,55 @@ public class UserFixture {
             .build();
     }
 
+    // UserProfileDto 생성 메서드들
+    public static UserProfileDto createUserProfileDto(Long userId, String nickname) {
+        return createUserProfileDto(userId, nickname, DEFAULT_RATING);
+    }
+
+    public static UserProfileDto createUserProfileDto(Long userId, String nickname, Long rating) {
+        return createUserProfileDto(
+            userId,
+            nickname,
+            rating,
+            DEFAULT_CURRENT_STREAK,
+            DEFAULT_LONGEST_STREAK,
+            DEFAULT_SOLVED_PROBLEMS_COUNT,
+            DEFAULT_RIVAL_COUNT
+        );
+    }
+
+    public static UserProfileDto createUserProfileDto(
+        Long userId,
+        String nickname,
+        Long rating,
+        Long currentStreak,
+        Long longestStreak,
+        Long solvedProblemsCount,
+        Long rivalCount
+    ) {
+        return UserProfileDto.builder()
+            .userId(userId)
+            .nickname(nickname)
+            .statusMessage(DEFAULT_STATUS_MESSAGE)
+            .profileImageUrl(DEFAULT_PROFILE_IMAGE_URL)
+            .rating(rating)
+            .currentStreak(currentStreak)
+            .longestStreak(longestStreak)
+            .solvedProblemsCount(solvedProblemsCount)
+            .rivalCount(rivalCount)
+            .build();
+    }
+
+    // 통계 정보가 없는 사용자 (LEFT JOIN 결과의 통계 필드가 null)
+    public static UserProfileDto createUserProfileDtoWithoutStat(Long userId, String nickname) {
+        return UserProfileDto.builder()
+            .userId(userId)
+            .nickname(nickname)
+            .statusMessage(DEFAULT_STATUS_MESSAGE)
+            .profileImageUrl(DEFAULT_PROFILE_IMAGE_URL)
+            .build();
+    }
+
     // UserProfileResponseDto 생성 메서드
     public static UserProfileResponseDto createUserProfileResponseDto(
         String nickname,
@@ -80,17 +80,17 @@ public class GymServiceTest {
         @DisplayName("위치 정보가 주어지지 않았을 때, 전체 클라이밍장 목록을 반환한다")
         void getGymList() {
             // given
-            GymEntity gymEntity1 = GymFixture.createGymEntity(1L, "Gym1", 37.0, 126.0);
-            GymEntity gymEntity2 = GymFixture.createGymEntity(2L, "Gym2", 38.0, 127.0);
+            GymInfoResponseDto gym1 = GymFixture.createGymInfoResponseDto(1L, "Gym1", 37.0, 126.0);
+            GymInfoResponseDto gym2 = GymFixture.createGymInfoResponseDto(2L, "Gym2", 38.0, 127.0);
 
-            given(gymRepository.findAll())
-                .willReturn(List.of(gymEntity1, gymEntity2));
+            given(gymRepository.findAllGymInfos())
+                .willReturn(List.of(gym1, gym2));
 
             // when
             List<GymInfoResponseDto> gymList = gymService.getGymList(null);
 
             // then
-            then(gymRepository).should(times(1)).findAll();
+            then(gymRepository).should(times(1)).findAllGymInfos();
             assertThat(gymList.size()).isEqualTo(2);
             assertThat(gymList.get(0)).isEqualTo(
                 GymFixture.createGymInfoResponseDto(1L, "Gym1", 37.0, 126.0));
@@ -108,13 +108,13 @@ public class GymServiceTest {
         void getGymList_whenValidLocation(Double latitude, Double longitude,
             Long firstId, Long secondId) {
             // given
-            GymEntity gymEntity1 = GymFixture.createGymEntity(1L, "Gym1", 37.0, 126.0);
-            GymEntity gymEntity2 = GymFixture.createGymEntity(2L, "Gym2", 38.0, 127.0);
+            GymInfoResponseDto gym1 = GymFixture.createGymInfoResponseDto(1L, "Gym1", 37.0, 126.0);
+            GymInfoResponseDto gym2 = GymFixture.createGymInfoResponseDto(2L, "Gym2", 38.0, 127.0);
 
-            // gymEntity1과 gymEntity2의 거리를 기준으로 정렬
-            List<GymEntity> sortedGyms = firstId == 1L
-                ? List.of(gymEntity1, gymEntity2)
-                : List.of(gymEntity2, gymEntity1);
+            // gym1과 gym2의 거리를 기준으로 정렬
+            List<GymInfoResponseDto> sortedGyms = firstId == 1L
+                ? List.of(gym1, gym2)
+                : List.of(gym2, gym1);
 
             given(gymRepository.findAllByLocationOrderByDistance(latitude, longitude))
                 .willReturn(sortedGyms);
@@ -137,9 +137,10 @@ public class GymServiceTest {
         @Test
         void getGymList_whenKeywordIsContainingAndNoCoordinates() {
             // given
-            GymEntity gymEntity1 = GymFixture.createGymEntity(1L, "더클라임 클라이밍 홍대", 37.0, 126.0);
-            GymEntity gymEntity2 = GymFixture.createGymEntity(2L, "클라이밍존 홍대", 37.0, 126.0);
-            List<GymEntity> mockGyms = List.of(gymEntity1, gymEntity2);
+            List<GymInfoResponseDto> mockGyms = List.of(
+                GymFixture.createGymInfoResponseDto(1L, "더클라임 클라이밍 홍대", 37.0, 126.0),
+                GymFixture.createGymInfoResponseDto(2L, "클라이밍존 홍대", 37.0, 126.0)
+            );
 
             String keyword = "홍대";
             given(gymRepository.findAllByNameContainingIgnoreCase(keyword))
@@ -161,9 +162,10 @@ public class GymServiceTest {
         @Test
         void getGymList_whenKeywordIsContainingAndCoordinates() {
             // given
-            GymEntity gymEntity1 = GymFixture.createGymEntity(1L, "더클라임 클라이밍 홍대", 37.0, 126.0);
-            GymEntity gymEntity2 = GymFixture.createGymEntity(2L, "클라이밍존 홍대", 37.0, 126.0);
-            List<GymEntity> mockGyms = List.of(gymEntity1, gymEntity2);
+            List<GymInfoResponseDto> mockGyms = List.of(
+                GymFixture.createGymInfoResponseDto(1L, "더클라임 클라이밍 홍대", 37.0, 126.0),
+                GymFixture.createGymInfoResponseDto(2L, "클라이밍존 홍대", 37.0, 126.0)
+            );
 
             Double latitude = 37.0;
             Double longitude = 126.0;
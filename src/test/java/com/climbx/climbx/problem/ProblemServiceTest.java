@@ -9,11 +9,13 @@ import com.climbx.climbx.fixture.GymFixture;
 import com.climbx.climbx.fixture.ProblemFixture;
 import com.climbx.climbx.gym.entity.GymEntity;
 import com.climbx.climbx.gym.repository.GymRepository;
+import com.climbx.climbx.problem.dto.ProblemInfoInSpotResponseDto;
 import com.climbx.climbx.problem.dto.SpotResponseDto;
 import com.climbx.climbx.problem.entity.ProblemEntity;
 import com.climbx.climbx.problem.repository.ProblemRepository;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -53,11 +55,13 @@ public class ProblemServiceTest {
             ProblemEntity problemEntity3 = ProblemFixture.createProblemEntity(3L, gymEntity,
                 localLevel, holdColor, 1400L, 2L, 60.0, 40.0);
 
-            List<ProblemEntity> mockProblems = List.of(problemEntity1, problemEntity2,
-                problemEntity3);
+            List<ProblemInfoInSpotResponseDto> mockProblems = Stream.of(problemEntity1,
+                    problemEntity2, problemEntity3)
+                .map(ProblemInfoInSpotResponseDto::from)
+                .toList();
 
-            given(gymRepository.findById(gymId))
-                .willReturn(Optional.of(gymEntity));
+            given(gymRepository.findMap2dUrlByGymId(gymId))
+                .willReturn(Optional.of(gymEntity.map2dUrl()));
             given(problemRepository.findByGym_GymIdAndLocalLevelAndHoldColor(
                 gymId, localLevel, holdColor
             )).willReturn(mockProblems);
@@ -70,6 +74,7 @@ public class ProblemServiceTest {
             then(problemRepository).should(times(1))
                 .findByGym_GymIdAndLocalLevelAndHoldColor(gymId, localLevel, holdColor);
 
+            assertThat(result.map2dUrl()).isEqualTo(GymFixture.MAP_2D_URL);
             assertThat(result.spotDetailsResponseDtoList()).hasSize(2); // spotId 1, 2로 그룹화됨
             assertThat(
                 result.spotDetailsResponseDtoList().get(0).problemDetailsResponseDtoList())
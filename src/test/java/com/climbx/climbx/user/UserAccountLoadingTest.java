@@ -0,0 +1,113 @@
+package com.climbx.climbx.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.climbx.climbx.auth.entity.UserAuthEntity;
+import com.climbx.climbx.auth.repository.UserAuthRepository;
+import com.climbx.climbx.fixture.UserAuthFixture;
+import com.climbx.climbx.user.entity.UserAccountEntity;
+import com.climbx.climbx.user.entity.UserStatEntity;
+import com.climbx.climbx.user.repository.UserAccountRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+/**
+ * 사용자 계정을 읽을 때 실행되는 SQL 수를 Hibernate 통계로 확인합니다. 계정과 통계는 user_id를 공유하지만 계정 쪽에서 통계를 참조하지 않으므로,
+ * 계정 N건을 읽어도 user_stats 조회가 따라 실행되지 않아야 합니다. MySQL이 필요하므로 DB_URL 이 설정된 환경(CI)에서만 실행합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "DB_URL", matches = ".+")
+@DisplayName("사용자 계정 로딩 SQL 수 테스트")
+class UserAccountLoadingTest {
+
+    private static final int ACCOUNT_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private UserAuthRepository userAuthRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private UserAccountEntity persistAccountWithStat() {
+        UserAccountEntity account = testEntityManager.persist(UserAccountEntity.builder()
+            .role("USER")
+            .nickname("load_" + UUID.randomUUID().toString().substring(0, 8))
+            .build());
+        testEntityManager.persist(UserStatEntity.builder()
+            .userAccountEntity(account)
+            .build());
+        return account;
+    }
+
+    private void flushAndResetStatistics() {
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("계정 N건을 조회해도 user_stats 조회가 추가로 실행되지 않는다")
+    void loadingAccountsDoesNotSelectStats() {
+        // given
+        List<Long> userIds = IntStream.range(0, ACCOUNT_COUNT)
+            .mapToObj(i -> persistAccountWithStat().userId())
+            .toList();
+        flushAndResetStatistics();
+
+        // when
+        List<UserAccountEntity> accounts = userAccountRepository.findAllById(userIds);
+
+        // then
+        assertThat(accounts).hasSize(ACCOUNT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로그인 조회는 인증 정보와 계정을 한 번의 쿼리로 가져온다")
+    void loginLookupUsesSingleStatement() {
+        // given
+        UserAccountEntity account = persistAccountWithStat();
+        String providerId = UUID.randomUUID().toString();
+        testEntityManager.persist(UserAuthFixture.createUserAuth(account, providerId));
+        flushAndResetStatistics();
+
+        // when
+        Optional<UserAuthEntity> userAuth = userAuthRepository
+            .findWithUserAccountByProviderAndProviderId(UserAuthFixture.DEFAULT_PROVIDER_TYPE,
+                providerId);
+
+        // then
+        assertThat(userAuth).isPresent();
+        assertThat(userAuth.get().userAccountEntity().nickname())
+            .isEqualTo(account.nickname());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -8,6 +8,8 @@ import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
 
+import com.climbx.climbx.archive.ArchiveService;
+import com.climbx.climbx.archive.enums.RollupSource;
 import com.climbx.climbx.common.comcode.ComcodeService;
 import com.climbx.climbx.fixture.GymFixture;
 import com.climbx.climbx.fixture.ProblemFixture;
@@ -18,6 +20,7 @@ import com.climbx.climbx.problem.entity.ProblemEntity;
 import com.climbx.climbx.problem.repository.ProblemRepository;
 import com.climbx.climbx.submission.repository.SubmissionRepository;
 import com.climbx.climbx.user.dto.DailyHistoryResponseDto;
+import com.climbx.climbx.user.dto.UserProfileDto;
 import com.climbx.climbx.user.dto.UserProfileModifyRequestDto;
 import com.climbx.climbx.user.dto.UserProfileResponseDto;
 import com.climbx.climbx.user.entity.UserAccountEntity;
@@ -62,14 +65,12 @@ public class UserServiceTest {
     @Mock
     private ComcodeService comcodeService;
 
+    @Mock
+    private ArchiveService archiveService;
+
     @InjectMocks
     private UserService userService;
 
-    private void setupUserRoleComcode() {
-        given(comcodeService.getCodeValue("USER"))
-            .willReturn("USER");
-    }
-
     private void setupRatingComcode() {
         given(comcodeService.getCodeValue("RATING"))
             .willReturn("RATING");
@@ -85,11 +86,6 @@ public class UserServiceTest {
             .willReturn("SOLVED_COUNT");
     }
 
-    private void setupAcceptedComcode() {
-        given(comcodeService.getCodeValue("ACCEPTED"))
-            .willReturn("ACCEPTED");
-    }
-
     @Nested
     @DisplayName("사용자 목록 조회 및 검색")
     class GetUsers {
@@ -98,26 +94,16 @@ public class UserServiceTest {
         @DisplayName("전체 사용자 목록을 정상 조회")
         void getUsers_Success_AllUsers() {
             // given
-            setupUserRoleComcode();
             String search = null;
 
-            UserAccountEntity user1 = UserFixture.createUserAccountEntity(1L, "alice");
-            UserAccountEntity user2 = UserFixture.createUserAccountEntity(2L, "bob");
-            UserAccountEntity user3 = UserFixture.createUserAccountEntity(3L, "charlie");
-            List<UserAccountEntity> userAccounts = List.of(user1, user2, user3);
-
-            UserStatEntity userStat1 = UserFixture.createUserStatEntity(1L, 1200L);
-            UserStatEntity userStat2 = UserFixture.createUserStatEntity(2L, 1300L);
-            UserStatEntity userStat3 = UserFixture.createUserStatEntity(3L, 1400L);
-
-            given(userAccountRepository.findByRole("USER"))
-                .willReturn(userAccounts);
-            given(userStatRepository.findByUserId(1L))
-                .willReturn(Optional.of(userStat1));
-            given(userStatRepository.findByUserId(2L))
-                .willReturn(Optional.of(userStat2));
-            given(userStatRepository.findByUserId(3L))
-                .willReturn(Optional.of(userStat3));
+            List<UserProfileDto> profiles = List.of(
+                UserFixture.createUserProfileDto(1L, "alice", 1200L),
+                UserFixture.createUserProfileDto(2L, "bob", 1300L),
+                UserFixture.createUserProfileDto(3L, "charlie", 1400L)
+            );
+
+            given(userAccountRepository.findProfilesByRole("USER"))
+                .willReturn(profiles);
             given(userStatRepository.findRatingRank(1200L))
                 .willReturn(30L);
             given(userStatRepository.findRatingRank(1300L))
@@ -134,31 +120,25 @@ public class UserServiceTest {
             assertThat(result.get(1).nickname()).isEqualTo("bob");
             assertThat(result.get(2).nickname()).isEqualTo("charlie");
 
-            then(userAccountRepository).should().findByRole("USER");
+            then(userAccountRepository).should().findProfilesByRole("USER");
             then(userAccountRepository).should(never())
-                .findByRoleAndNicknameContaining(any(), any());
+                .findProfilesByRoleAndNicknameContaining(any(), any());
+            then(userStatRepository).should(never()).findByUserId(any());
         }
 
         @Test
         @DisplayName("빈 문자열로 검색 시 전체 사용자 목록 조회")
         void getUsers_Success_EmptySearch() {
             // given
-            setupUserRoleComcode();
             String search = "";
 
-            UserAccountEntity user1 = UserFixture.createUserAccountEntity(1L, "test1");
-            UserAccountEntity user2 = UserFixture.createUserAccountEntity(2L, "test2");
-            List<UserAccountEntity> userAccounts = List.of(user1, user2);
-
-            UserStatEntity userStat1 = UserFixture.createUserStatEntity(1L);
-            UserStatEntity userStat2 = UserFixture.createUserStatEntity(2L);
+            List<UserProfileDto> profiles = List.of(
+                UserFixture.createUserProfileDto(1L, "test1"),
+                UserFixture.createUserProfileDto(2L, "test2")
+            );
 
-            given(userAccountRepository.findByRole("USER"))
-                .willReturn(userAccounts);
-            given(userStatRepository.findByUserId(1L))
-                .willReturn(Optional.of(userStat1));
-            given(userStatRepository.findByUserId(2L))
-                .willReturn(Optional.of(userStat2));
+            given(userAccountRepository.findProfilesByRole("USER"))
+                .willReturn(profiles);
             given(userStatRepository.findRatingRank(UserFixture.DEFAULT_RATING))
                 .willReturn(UserFixture.DEFAULT_RANKING);
 
@@ -167,27 +147,23 @@ public class UserServiceTest {
 
             // then
             assertThat(result).hasSize(2);
-            then(userAccountRepository).should().findByRole("USER");
+            then(userAccountRepository).should().findProfilesByRole("USER");
             then(userAccountRepository).should(never())
-                .findByRoleAndNicknameContaining(any(), any());
+                .findProfilesByRoleAndNicknameContaining(any(), any());
         }
 
         @Test
         @DisplayName("공백만 있는 검색어로 검색 시 전체 사용자 목록 조회")
         void getUsers_Success_WhitespaceOnlySearch() {
             // given
-            setupUserRoleComcode();
             String search = "   ";
 
-            UserAccountEntity user1 = UserFixture.createUserAccountEntity(1L, "user1");
-            List<UserAccountEntity> userAccounts = List.of(user1);
-
-            UserStatEntity userStat1 = UserFixture.createUserStatEntity(1L);
+            List<UserProfileDto> profiles = List.of(
+                UserFixture.createUserProfileDto(1L, "user1")
+            );
 
-            given(userAccountRepository.findByRole("USER"))
-                .willReturn(userAccounts);
-            given(userStatRepository.findByUserId(1L))
-                .willReturn(Optional.of(userStat1));
+            given(userAccountRepository.findProfilesByRole("USER"))
+                .willReturn(profiles);
             given(userStatRepository.findRatingRank(UserFixture.DEFAULT_RATING))
                 .willReturn(UserFixture.DEFAULT_RANKING);
 
@@ -196,31 +172,24 @@ public class UserServiceTest {
 
             // then
             assertThat(result).hasSize(1);
-            then(userAccountRepository).should().findByRole("USER");
+            then(userAccountRepository).should().findProfilesByRole("USER");
             then(userAccountRepository).should(never())
-                .findByRoleAndNicknameContaining(any(), any());
+                .findProfilesByRoleAndNicknameContaining(any(), any());
         }
 
         @Test
         @DisplayName("닉네임 검색으로 특정 사용자들 조회")
         void getUsers_Success_WithSearch() {
             // given
-            setupUserRoleComcode();
             String search = "test";
 
-            UserAccountEntity user1 = UserFixture.createUserAccountEntity(1L, "testuser1");
-            UserAccountEntity user2 = UserFixture.createUserAccountEntity(2L, "testuser2");
-            List<UserAccountEntity> userAccounts = List.of(user1, user2);
+            List<UserProfileDto> profiles = List.of(
+                UserFixture.createUserProfileDto(1L, "testuser1", 1100L),
+                UserFixture.createUserProfileDto(2L, "testuser2", 1600L)
+            );
 
-            UserStatEntity userStat1 = UserFixture.createUserStatEntity(1L, 1100L);
-            UserStatEntity userStat2 = UserFixture.createUserStatEntity(2L, 1600L);
-
-            given(userAccountRepository.findByRoleAndNicknameContaining("USER", "test"))
-                .willReturn(userAccounts);
-            given(userStatRepository.findByUserId(1L))
-                .willReturn(Optional.of(userStat1));
-            given(userStatRepository.findByUserId(2L))
-                .willReturn(Optional.of(userStat2));
+            given(userAccountRepository.findProfilesByRoleAndNicknameContaining("USER", "test"))
+                .willReturn(profiles);
             given(userStatRepository.findRatingRank(1100L))
                 .willReturn(40L);
             given(userStatRepository.findRatingRank(1600L))
@@ -235,21 +204,19 @@ public class UserServiceTest {
             assertThat(result.get(1).nickname()).isEqualTo("testuser2");
 
             then(userAccountRepository).should()
-                .findByRoleAndNicknameContaining("USER", "test");
-            then(userAccountRepository).should(never()).findByRole(any());
+                .findProfilesByRoleAndNicknameContaining("USER", "test");
+            then(userAccountRepository).should(never()).findProfilesByRole(any());
         }
 
         @Test
         @DisplayName("검색 결과가 없는 경우")
         void getUsers_Success_NoResults() {
             // given
-            setupUserRoleComcode();
             String search = "nonexistent";
-            List<UserAccountEntity> emptyUserAccounts = List.of();
 
-            given(
-                userAccountRepository.findByRoleAndNicknameContaining("USER", "nonexistent"))
-                .willReturn(emptyUserAccounts);
+            given(userAccountRepository.findProfilesByRoleAndNicknameContaining(
+                "USER", "nonexistent"))
+                .willReturn(List.of());
 
             // when
             List<UserProfileResponseDto> result = userService.getUsers(search);
@@ -258,26 +225,22 @@ public class UserServiceTest {
             assertThat(result).isEmpty();
 
             then(userAccountRepository).should()
-                .findByRoleAndNicknameContaining("USER", "nonexistent");
-            then(userStatRepository).should(never()).findByUserId(any());
+                .findProfilesByRoleAndNicknameContaining("USER", "nonexistent");
+            then(userStatRepository).should(never()).findRatingRank(any());
         }
 
         @Test
         @DisplayName("검색어 앞뒤 공백 제거 후 검색")
         void getUsers_Success_TrimmedSearch() {
             // given
-            setupUserRoleComcode();
             String search = "  alice  ";
 
-            UserAccountEntity user1 = UserFixture.createUserAccountEntity(1L, "alice123");
-            List<UserAccountEntity> userAccounts = List.of(user1);
-
-            UserStatEntity userStat1 = UserFixture.createUserStatEntity(1L);
+            List<UserProfileDto> profiles = List.of(
+                UserFixture.createUserProfileDto(1L, "alice123")
+            );
 
-            given(userAccountRepository.findByRoleAndNicknameContaining("USER", "alice"))
-                .willReturn(userAccounts);
-            given(userStatRepository.findByUserId(1L))
-                .willReturn(Optional.of(userStat1));
+            given(userAccountRepository.findProfilesByRoleAndNicknameContaining("USER", "alice"))
+                .willReturn(profiles);
             given(userStatRepository.findRatingRank(UserFixture.DEFAULT_RATING))
                 .willReturn(UserFixture.DEFAULT_RANKING);
 
@@ -289,23 +252,17 @@ public class UserServiceTest {
             assertThat(result.get(0).nickname()).isEqualTo("alice123");
 
             then(userAccountRepository).should()
-                .findByRoleAndNicknameContaining("USER", "alice");
+                .findProfilesByRoleAndNicknameContaining("USER", "alice");
         }
 
         @Test
         @DisplayName("사용자는 있지만 통계 정보가 없는 경우")
         void getUsers_UserStatNotFound() {
             // given
-            setupUserRoleComcode();
             String search = null;
 
-            UserAccountEntity user1 = UserFixture.createUserAccountEntity(1L, "user1");
-            List<UserAccountEntity> userAccounts = List.of(user1);
-
-            given(userAccountRepository.findByRole("USER"))
-                .willReturn(userAccounts);
-            given(userStatRepository.findByUserId(1L))
-                .willReturn(Optional.empty());
+            given(userAccountRepository.findProfilesByRole("USER"))
+                .willReturn(List.of(UserFixture.createUserProfileDtoWithoutStat(1L, "user1")));
 
             // when & then
             assertThatThrownBy(() -> userService.getUsers(search))
@@ -316,29 +273,16 @@ public class UserServiceTest {
         @DisplayName("다양한 레이팅을 가진 사용자들 조회")
         void getUsers_Success_DifferentRatings() {
             // given
-            setupUserRoleComcode();
             String search = "pro";
 
-            UserAccountEntity user1 = UserFixture.createUserAccountEntity(1L, "pro_player1");
-            UserAccountEntity user2 = UserFixture.createUserAccountEntity(2L, "pro_player2");
-            UserAccountEntity user3 = UserFixture.createUserAccountEntity(3L, "pro_player3");
-            List<UserAccountEntity> userAccounts = List.of(user1, user2, user3);
-
-            UserStatEntity userStat1 = UserFixture.createUserStatEntity(1L, 2000L, 10L, 20L, 100L,
-                5L);
-            UserStatEntity userStat2 = UserFixture.createUserStatEntity(2L, 1800L, 8L, 15L, 80L,
-                3L);
-            UserStatEntity userStat3 = UserFixture.createUserStatEntity(3L, 2200L, 15L, 25L, 120L,
-                7L);
-
-            given(userAccountRepository.findByRoleAndNicknameContaining("USER", "pro"))
-                .willReturn(userAccounts);
-            given(userStatRepository.findByUserId(1L))
-                .willReturn(Optional.of(userStat1));
-            given(userStatRepository.findByUserId(2L))
-                .willReturn(Optional.of(userStat2));
-            given(userStatRepository.findByUserId(3L))
-                .willReturn(Optional.of(userStat3));
+            List<UserProfileDto> profiles = List.of(
+                UserFixture.createUserProfileDto(1L, "pro_player1", 2000L, 10L, 20L, 100L, 5L),
+                UserFixture.createUserProfileDto(2L, "pro_player2", 1800L, 8L, 15L, 80L, 3L),
+                UserFixture.createUserProfileDto(3L, "pro_player3", 2200L, 15L, 25L, 120L, 7L)
+            );
+
+            given(userAccountRepository.findProfilesByRoleAndNicknameContaining("USER", "pro"))
+                .willReturn(profiles);
             given(userStatRepository.findRatingRank(2000L))
                 .willReturn(3L);
             given(userStatRepository.findRatingRank(1800L))
@@ -373,18 +317,13 @@ public class UserServiceTest {
         @DisplayName("ADMIN 역할 사용자는 조회되지 않음")
         void getUsers_AdminNotIncluded() {
             // given
-            setupUserRoleComcode();
             String search = null;
 
-            UserAccountEntity normalUser = UserFixture.createUserAccountEntity(2L, "user");
-            List<UserAccountEntity> userAccounts = List.of(normalUser); // admin은 포함되지 않음
-
-            UserStatEntity userStat = UserFixture.createUserStatEntity(2L);
+            // admin은 포함되지 않음
+            List<UserProfileDto> profiles = List.of(UserFixture.createUserProfileDto(2L, "user"));
 
-            given(userAccountRepository.findByRole("USER"))
-                .willReturn(userAccounts);
-            given(userStatRepository.findByUserId(2L))
-                .willReturn(Optional.of(userStat));
+            given(userAccountRepository.findProfilesByRole("USER"))
+                .willReturn(profiles);
             given(userStatRepository.findRatingRank(UserFixture.DEFAULT_RATING))
                 .willReturn(UserFixture.DEFAULT_RANKING);
 
@@ -395,26 +334,23 @@ public class UserServiceTest {
             assertThat(result).hasSize(1);
             assertThat(result.get(0).nickname()).isEqualTo("user");
 
-            then(userAccountRepository).should().findByRole("USER");
-            then(userAccountRepository).should(never()).findByRole("ADMIN");
+            then(userAccountRepository).should().findProfilesByRole("USER");
+            then(userAccountRepository).should(never()).findProfilesByRole("ADMIN");
         }
 
         @Test
         @DisplayName("ADMIN 역할 사용자는 검색에서도 제외됨")
         void getUsers_AdminNotIncludedInSearch() {
             // given
-            setupUserRoleComcode();
             String search = "admin";
 
-            UserAccountEntity normalUser = UserFixture.createUserAccountEntity(1L, "admin_user");
-            List<UserAccountEntity> userAccounts = List.of(normalUser); // admin 역할이 아닌 사용자만 포함
+            // admin 역할이 아닌 사용자만 포함
+            List<UserProfileDto> profiles = List.of(
+                UserFixture.createUserProfileDto(1L, "admin_user")
+            );
 
-            UserStatEntity userStat = UserFixture.createUserStatEntity(1L);
-
-            given(userAccountRepository.findByRoleAndNicknameContaining("USER", "admin"))
-                .willReturn(userAccounts);
-            given(userStatRepository.findByUserId(1L))
-                .willReturn(Optional.of(userStat));
+            given(userAccountRepository.findProfilesByRoleAndNicknameContaining("USER", "admin"))
+                .willReturn(profiles);
             given(userStatRepository.findRatingRank(UserFixture.DEFAULT_RATING))
                 .willReturn(UserFixture.DEFAULT_RANKING);
 
@@ -426,8 +362,8 @@ public class UserServiceTest {
             assertThat(result.get(0).nickname()).isEqualTo("admin_user");
 
             then(userAccountRepository).should()
-                .findByRoleAndNicknameContaining("USER", "admin");
-            then(userAccountRepository).should(never()).findByRole(any());
+                .findProfilesByRoleAndNicknameContaining("USER", "admin");
+            then(userAccountRepository).should(never()).findProfilesByRole(any());
         }
     }
 
@@ -504,14 +440,10 @@ public class UserServiceTest {
             Long userId = 1L;
             Long ratingRank = 10L;
 
-            UserAccountEntity userAccountEntity = UserFixture.createUserAccountEntity(userId,
-                nickname);
-            UserStatEntity userStatEntity = UserFixture.createUserStatEntity(userId);
+            UserProfileDto profile = UserFixture.createUserProfileDto(userId, nickname);
 
-            given(userAccountRepository.findByNickname(nickname))
-                .willReturn(Optional.of(userAccountEntity));
-            given(userStatRepository.findByUserId(userId))
-                .willReturn(Optional.of(userStatEntity));
+            given(userAccountRepository.findProfileByNickname(nickname))
+                .willReturn(Optional.of(profile));
             given(userStatRepository.findRatingRank(UserFixture.DEFAULT_RATING))
                 .willReturn(ratingRank);
 
@@ -522,6 +454,8 @@ public class UserServiceTest {
             UserProfileResponseDto expected = UserFixture.createUserProfileResponseDto(nickname,
                 ratingRank);
             assertThat(result).isEqualTo(expected);
+            then(userAccountRepository).should(never()).findByNickname(any());
+            then(userStatRepository).should(never()).findByUserId(any());
         }
 
         @Test
@@ -529,7 +463,7 @@ public class UserServiceTest {
         void getUserByNickname_UserNotFound() {
             // given
             String nickname = "nonexistentUser";
-            given(userAccountRepository.findByNickname(nickname))
+            given(userAccountRepository.findProfileByNickname(nickname))
                 .willReturn(Optional.empty());
 
             // when & then
@@ -544,13 +478,9 @@ public class UserServiceTest {
             String nickname = "testUser";
             Long userId = 1L;
 
-            UserAccountEntity userAccountEntity = UserFixture.createUserAccountEntity(userId,
-                nickname);
-
-            given(userAccountRepository.findByNickname(nickname))
-                .willReturn(Optional.of(userAccountEntity));
-            given(userStatRepository.findByUserId(userId))
-                .willReturn(Optional.empty());
+            given(userAccountRepository.findProfileByNickname(nickname))
+                .willReturn(Optional.of(
+                    UserFixture.createUserProfileDtoWithoutStat(userId, nickname)));
 
             // when & then
             assertThatThrownBy(() -> userService.getUserByNickname(nickname))
@@ -561,7 +491,7 @@ public class UserServiceTest {
         @DisplayName("닉네임이 null인 사용자 조회")
         void getUserByNickname_NullNickname() {
             // given
-            given(userAccountRepository.findByNickname(null))
+            given(userAccountRepository.findProfileByNickname(null))
                 .willReturn(Optional.empty());
 
             // when & then
@@ -574,7 +504,7 @@ public class UserServiceTest {
         void getUserByNickname_EmptyNickname() {
             // given
             String emptyNickname = "";
-            given(userAccountRepository.findByNickname(emptyNickname))
+            given(userAccountRepository.findProfileByNickname(emptyNickname))
                 .willReturn(Optional.empty());
 
             // when & then
@@ -762,7 +692,6 @@ public class UserServiceTest {
             @DisplayName("사용자의 상위 문제를 정상 조회")
             void getUserTopProblems_Success() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 Integer limit = 5;
@@ -827,7 +756,6 @@ public class UserServiceTest {
             @DisplayName("사용자에게 문제 제출 기록이 없는 경우")
             void getUserTopProblems_NoSubmissions() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 Integer limit = 5;
@@ -876,7 +804,6 @@ public class UserServiceTest {
             @DisplayName("요청한 limit보다 적은 문제가 있는 경우")
             void getUserTopProblems_LessProblemsThanlimit() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 Integer limit = 10;
@@ -922,7 +849,6 @@ public class UserServiceTest {
             @DisplayName("사용자의 일별 해결 문제 수를 정상 조회")
             void getUserStreak_Success() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 LocalDate from = LocalDate.of(2024, 1, 1);
@@ -958,6 +884,44 @@ public class UserServiceTest {
                     .getUserDateSolvedCount(userId, "ACCEPTED", from, to);
             }
 
+            @Test
+            @DisplayName("보관 처리된 기간의 집계와 최근 기록을 날짜순으로 합쳐 반환")
+            void getUserStreak_WithArchivedRollups() {
+                // given
+                String nickname = "testUser";
+                Long userId = 1L;
+                LocalDate from = LocalDate.of(2023, 12, 30);
+                LocalDate to = LocalDate.of(2024, 1, 2);
+
+                UserAccountEntity userAccount = UserFixture.createUserAccountEntity(userId,
+                    nickname);
+
+                given(userAccountRepository.findByNickname(nickname))
+                    .willReturn(Optional.of(userAccount));
+                given(submissionRepository.getUserDateSolvedCount(userId, "ACCEPTED", from, to))
+                    .willReturn(List.of(
+                        UserFixture.createDailyHistoryResponseDto(LocalDate.of(2024, 1, 2), 4L)
+                    ));
+                given(archiveService.getArchivedDailyHistory(userId, RollupSource.SUBMISSION,
+                    "ACCEPTED", from, to))
+                    .willReturn(List.of(
+                        UserFixture.createDailyHistoryResponseDto(LocalDate.of(2023, 12, 30), 1L),
+                        UserFixture.createDailyHistoryResponseDto(LocalDate.of(2023, 12, 31), 2L)
+                    ));
+
+                // when
+                List<DailyHistoryResponseDto> result = userService.getUserStreak(nickname, from,
+                    to);
+
+                // then
+                List<DailyHistoryResponseDto> expected = List.of(
+                    UserFixture.createDailyHistoryResponseDto(LocalDate.of(2023, 12, 30), 1L),
+                    UserFixture.createDailyHistoryResponseDto(LocalDate.of(2023, 12, 31), 2L),
+                    UserFixture.createDailyHistoryResponseDto(LocalDate.of(2024, 1, 2), 4L)
+                );
+                assertThat(result).isEqualTo(expected);
+            }
+
             @Test
             @DisplayName("존재하지 않는 닉네임으로 스트릭 조회")
             void getUserStreak_UserNotFound() {
@@ -981,7 +945,6 @@ public class UserServiceTest {
             @DisplayName("해당 기간에 해결한 문제가 없는 경우")
             void getUserStreak_NoSolvedProblems() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 LocalDate from = LocalDate.of(2024, 1, 1);
@@ -1010,7 +973,6 @@ public class UserServiceTest {
             @DisplayName("하루만 조회하는 경우")
             void getUserStreak_SingleDay() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 LocalDate singleDate = LocalDate.of(2024, 1, 15);
@@ -1047,7 +1009,6 @@ public class UserServiceTest {
             @DisplayName("날짜 순서가 잘못된 경우 (from > to)")
             void getUserStreak_InvalidDateRange() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 LocalDate from = LocalDate.of(2024, 1, 31);
@@ -1076,7 +1037,6 @@ public class UserServiceTest {
             @DisplayName("연속되지 않은 날짜의 데이터 조회")
             void getUserStreak_NonConsecutiveDates() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 LocalDate from = LocalDate.of(2024, 1, 1);
@@ -1117,7 +1077,6 @@ public class UserServiceTest {
             @DisplayName("null 파라미터로 조회하는 경우")
             void getUserStreak_WithNullParameters() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 LocalDate from = null;
@@ -1155,7 +1114,6 @@ public class UserServiceTest {
             @DisplayName("from만 null인 경우")
             void getUserStreak_WithFromNull() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 LocalDate from = null;
@@ -1193,7 +1151,6 @@ public class UserServiceTest {
             @DisplayName("to만 null인 경우")
             void getUserStreak_WithToNull() {
                 // given
-                setupAcceptedComcode();
                 String nickname = "testUser";
                 Long userId = 1L;
                 LocalDate from = LocalDate.of(2024, 1, 1);